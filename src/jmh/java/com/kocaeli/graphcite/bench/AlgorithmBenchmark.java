@@ -0,0 +1,123 @@
+package com.kocaeli.graphcite.bench;
+
+import com.kocaeli.graphcite.graph.CitationGraph;
+import com.kocaeli.graphcite.graph.GraphAlgorithms;
+import com.kocaeli.graphcite.model.Makale;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makale başına metrikler (h-index, h-median), görünür alt küme üzerinde Brandes betweenness
+ * ve k-core. Betweenness tüm korpus yerine arayüzdeki gibi bağlı bir alt kümede ölçülür.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class AlgorithmBenchmark {
+
+    // Her çağrıda ölçülen makale sayısı (en çok atıf alanlar: en pahalı durum).
+    // @OperationsPerInvocation ile aynı olmalı: en küçük korpustan (1000) büyük seçilmez
+    private static final int SAMPLE = 512;
+
+    @Param({"2000"})
+    public int visibleSize;
+
+    @Param({"3"})
+    public int k;
+
+    private int[] sample;
+    private Set<String> visible;
+
+    @Setup(Level.Trial)
+    public void setup(CorpusState corpus) {
+        CitationGraph g = corpus.algorithms.getGraph();
+        if (g.nodeCount() < SAMPLE) {
+            throw new IllegalStateException("Korpus örnekten küçük: " + g.nodeCount() + " < " + SAMPLE);
+        }
+        sample = mostCited(g, SAMPLE);
+        visible = bfsSubset(corpus.algorithms, sample.length == 0 ? 0 : sample[0], visibleSize);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLE)
+    public void hIndex(CorpusState corpus, Blackhole bh) {
+        for (int i : sample) bh.consume(corpus.algorithms.calculateHIndex(i));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLE)
+    public void hMedian(CorpusState corpus, Blackhole bh) {
+        for (int i : sample) bh.consume(corpus.algorithms.calculateHMedian(i));
+    }
+
+    @Benchmark
+    public Map<String, Double> betweennessBrandes(CorpusState corpus) {
+        return corpus.algorithms.calculateBetweennessCentralityBrandes(visible);
+    }
+
+    /** Çekirdek numaraları önbellekte: sorgu O(V) filtredir. */
+    @Benchmark
+    public List<Makale> kCoreQuery(CorpusState corpus) {
+        return corpus.algorithms.runKCoreDecomposition(k);
+    }
+
+    /** Soğuk k-core: çekirdek numaraları her ölçümde yeni indeks üzerinde baştan hesaplanır. */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    public List<Makale> kCoreCold(ColdIndex cold) {
+        return cold.algorithms.runKCoreDecomposition(k);
+    }
+
+    @State(Scope.Thread)
+    public static class ColdIndex {
+        GraphAlgorithms algorithms;
+
+        @Setup(Level.Iteration)
+        public void rebuild(CorpusState corpus) {
+            algorithms = new GraphAlgorithms(corpus.makaleler);
+        }
+    }
+
+    private static int[] mostCited(CitationGraph g, int count) {
+        Integer[] order = new Integer[g.nodeCount()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Integer.compare(g.inDegree(b), g.inDegree(a)));
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) out[i] = order[i];
+        return out;
+    }
+
+    /** Başlangıç makalesinden yönsüz BFS ile en fazla limit makalelik bağlı alt küme (görünür graf gibi). */
+    private static Set<String> bfsSubset(GraphAlgorithms alg, int start, int limit) {
+        CitationGraph g = alg.getGraph();
+        int[] off = g.undirectedOffsets();
+        int[] tgt = g.undirectedTargets();
+        Set<String> out = new LinkedHashSet<>();
+        if (g.nodeCount() == 0) return out;
+        BitSet seen = new BitSet(g.nodeCount());
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        seen.set(start);
+        while (!queue.isEmpty() && out.size() < limit) {
+            int v = queue.poll();
+            out.add(alg.getIds().idOf(v));
+            for (int e = off[v]; e < off[v + 1]; e++) {
+                int w = tgt[e];
+                if (!seen.get(w)) {
+                    seen.set(w);
+                    queue.add(w);
+                }
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,31 @@
+package com.kocaeli.graphcite.bench;
+
+import com.kocaeli.graphcite.parser.SyntheticCorpusGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Benchmark'lar için data.json biçiminde, boyutu ve seed'i sabit sentetik korpus
+ * (SyntheticCorpusGenerator ile üretilir). Dosyalar target/bench-corpus altında önbelleğe alınır;
+ * aynı boyut için tekrar üretilmez.
+ */
+final class BenchmarkCorpus {
+
+    static final long SEED = 42L;
+
+    private BenchmarkCorpus() {
+    }
+
+    /** size makalelik korpus dosyası; yoksa üretilir. */
+    static Path file(int size) throws IOException {
+        Path dir = Path.of(System.getProperty("graphcite.bench.dir", "target/bench-corpus"));
+        Path file = dir.resolve("corpus-" + size + "-" + SEED + ".json");
+        if (Files.isRegularFile(file)) return file;
+
+        Files.createDirectories(dir);
+        new SyntheticCorpusGenerator(size, SEED).write(file, null);
+        return file;
+    }
+}
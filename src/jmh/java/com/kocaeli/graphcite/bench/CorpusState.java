@@ -0,0 +1,33 @@
+package com.kocaeli.graphcite.bench;
+
+import com.kocaeli.graphcite.graph.GraphAlgorithms;
+import com.kocaeli.graphcite.model.Makale;
+import com.kocaeli.graphcite.parser.JsonParser;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/** Korpus boyutuna göre parametreli ortak durum: dosya, ayrıştırılmış makaleler ve indeks. */
+@State(Scope.Benchmark)
+public class CorpusState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    public Path file;
+    public List<Makale> makaleler;
+    public GraphAlgorithms algorithms;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        file = BenchmarkCorpus.file(size);
+        makaleler = JsonParser.parseParallel(file.toString());
+        algorithms = new GraphAlgorithms(makaleler);
+    }
+}
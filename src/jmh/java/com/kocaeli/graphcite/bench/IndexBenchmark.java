@@ -0,0 +1,20 @@
+package com.kocaeli.graphcite.bench;
+
+import com.kocaeli.graphcite.graph.GraphAlgorithms;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** GraphAlgorithms kurulumu: IdDictionary, CSR atıf grafı ve atıf sayıları. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class IndexBenchmark {
+
+    @Benchmark
+    public GraphAlgorithms build(CorpusState corpus) {
+        return new GraphAlgorithms(corpus.makaleler);
+    }
+}
@@ -0,0 +1,40 @@
+package com.kocaeli.graphcite.bench;
+
+import com.kocaeli.graphcite.model.Makale;
+import com.kocaeli.graphcite.parser.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** JSON ayrıştırma: sıralı akış ve paralel memory-map yolu. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = BenchmarkCorpus.file(size);
+    }
+
+    @Benchmark
+    public List<Makale> parse() throws IOException {
+        return JsonParser.parse(file.toString());
+    }
+
+    @Benchmark
+    public List<Makale> parseParallel() throws IOException {
+        return JsonParser.parseParallel(file.toString());
+    }
+}
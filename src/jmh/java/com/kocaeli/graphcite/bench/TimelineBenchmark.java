@@ -0,0 +1,63 @@
+package com.kocaeli.graphcite.bench;
+
+import com.kocaeli.graphcite.graph.GraphManager;
+import com.kocaeli.graphcite.model.Makale;
+import org.graphstream.graph.Graph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GraphManager.rebuildTimelineEdges: düğümler yönetici dışında eklendiğinde zincirin baştan kurulması
+ * (tam yeniden kurulum) ve zincir güncelken yapılan kontrol (hızlı yol).
+ */
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class TimelineBenchmark {
+
+    /** Zincir boş, düğümler grafta: her ölçümden önce yeniden hazırlanır. */
+    @State(Scope.Thread)
+    public static class Desynced {
+        GraphManager manager;
+
+        @Setup(Level.Invocation)
+        public void setup(CorpusState corpus) {
+            manager = new GraphManager(corpus.makaleler);
+            Graph g = manager.createGraph();
+            for (Makale m : corpus.makaleler) g.addNode(m.getId());
+        }
+    }
+
+    /** Zincir bir kez kurulmuş, graf değişmiyor. */
+    @State(Scope.Thread)
+    public static class Synced {
+        GraphManager manager;
+
+        @Setup(Level.Trial)
+        public void setup(CorpusState corpus) {
+            manager = new GraphManager(corpus.makaleler);
+            Graph g = manager.createGraph();
+            for (Makale m : corpus.makaleler) g.addNode(m.getId());
+            manager.rebuildTimelineEdges();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    public Graph fullRebuild(Desynced state) {
+        state.manager.rebuildTimelineEdges();
+        return state.manager.getGraph();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public Graph inSync(Synced state) {
+        state.manager.rebuildTimelineEdges();
+        return state.manager.getGraph();
+    }
+}
@@ -0,0 +1,307 @@
+package com.kocaeli.graphcite.cli;
+
+import com.kocaeli.graphcite.graph.BetweennessEstimate;
+import com.kocaeli.graphcite.graph.BibliometricTable;
+import com.kocaeli.graphcite.graph.CitationGraph;
+import com.kocaeli.graphcite.graph.GraphAlgorithms;
+import com.kocaeli.graphcite.metrics.Metrics;
+import com.kocaeli.graphcite.model.Makale;
+import com.kocaeli.graphcite.parser.CorpusSnapshot;
+import com.kocaeli.graphcite.parser.JsonParser;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Arayüzsüz (headless) toplu analiz: korpusu yükler, tüm makaleler için metrikleri hesaplar ve
+ * satır satır CSV veya JSON Lines olarak yazar. Swing/GraphStream görüntüleyicisi kullanılmaz.
+ *
+ * Kullanım:
+ *   java -cp GraphCite.jar com.kocaeli.graphcite.cli.BatchAnalytics [seçenekler]
+ *     --input data.json         korpus (varsa ikili anlık görüntüsü kullanılır)
+ *     --output sonuc.csv        çıktı dosyası; "-" standart çıktı (varsayılan)
+ *     --format csv|jsonl        çıktı biçimi (varsayılan: dosya uzantısından, yoksa csv)
+ *     --betweenness auto|exact|approx|none
+ *                               auto: EXACT_LIMIT makaleye kadar tam Brandes, üstünde örneklemeli
+ *     --epsilon 0.01 --delta 0.1 --seed 42
+ *                               yaklaşık betweenness parametreleri
+ *
+ * Hesaplamalar tüm çekirdekleri kullanır (bibliyometrik tablo, Brandes ve örnekleme paralel).
+ * Sonuçlar ilkel dizilerde tutulur; yazım sırasında satır başına sadece o satırın metni oluşturulur.
+ * Aşama süreleri ve her aşamanın en yüksek heap kullanımı standart hataya yazılır.
+ */
+public final class BatchAnalytics {
+
+    private static final int EXACT_LIMIT = 20_000;
+
+    private static final String[] COLUMNS = {
+            "id", "year", "citation_count", "reference_count", "h_index", "h_median", "core_number", "betweenness"
+    };
+
+    private final PrintStream log;
+    private long runStart;
+
+    private BatchAnalytics(PrintStream log) {
+        this.log = log;
+    }
+
+    public static void main(String[] args) {
+        Options opt;
+        try {
+            opt = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Hata: " + e.getMessage());
+            System.err.println(Options.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            new BatchAnalytics(System.err).run(opt);
+        } catch (Exception e) {
+            System.err.println("Toplu analiz başarısız: " + e);
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private void run(Options opt) throws Exception {
+        runStart = System.nanoTime();
+        Metrics.startFileDump();
+        log.printf(Locale.ROOT, "GraphCite toplu analiz: %s, %d çekirdek%n", opt.input, Runtime.getRuntime().availableProcessors());
+
+        List<Makale> makaleler = stage("korpus", () -> loadCorpus(opt.input));
+        GraphAlgorithms algorithms = stage("indeks", () -> new GraphAlgorithms(makaleler));
+        CitationGraph graph = algorithms.getGraph();
+        log.printf(Locale.ROOT, "  %d makale, %d atıf kenarı%n", graph.nodeCount(), graph.edgeCount());
+
+        BibliometricTable table = stage("atıf/h-index/h-median", algorithms::getBibliometrics);
+        stage("çekirdek numaraları", algorithms::getMaxCore);
+
+        String mode = opt.betweenness;
+        if ("auto".equals(mode)) mode = graph.nodeCount() <= EXACT_LIMIT ? "exact" : "approx";
+        BetweennessEstimate betweenness = null;
+        if ("exact".equals(mode)) {
+            betweenness = stage("betweenness (tam)", algorithms::exactBetweenness);
+        } else if ("approx".equals(mode)) {
+            betweenness = stage("betweenness (ε=" + opt.epsilon + ", δ=" + opt.delta + ")",
+                    () -> algorithms.approximateBetweenness(opt.epsilon, opt.delta, opt.seed, null));
+        }
+
+        final BetweennessEstimate cb = betweenness;
+        long rows = stage("yazım (" + opt.format + ")", () -> write(opt, algorithms, table, cb));
+        log.printf(Locale.ROOT, "Toplam: %d satır, %.0f ms%n", rows, (System.nanoTime() - runStart) / 1e6);
+        if (Metrics.ENABLED) log.print(Metrics.report());
+    }
+
+    /** Aşamayı çalıştırır; süresini ve aşama boyunca en yüksek heap kullanımını yazar. */
+    private <T> T stage(String name, Callable<T> work) throws Exception {
+        resetPeakHeap();
+        long t0 = System.nanoTime();
+        T result = work.call();
+        long ms = (System.nanoTime() - t0) / 1_000_000;
+        log.printf(Locale.ROOT, "[%8.0f ms] %-34s %7d ms  tepe heap %7.1f MB%n",
+                (System.nanoTime() - runStart) / 1e6, name, ms, peakHeapBytes() / 1e6);
+        return result;
+    }
+
+    /** Heap havuzlarının (eden, survivor, old) tepe değerlerinin toplamı. */
+    private static long peakHeapBytes() {
+        long sum = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) sum += pool.getPeakUsage().getUsed();
+        }
+        return sum;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) pool.resetPeakUsage();
+        }
+    }
+
+    private List<Makale> loadCorpus(Path jsonPath) throws IOException {
+        CorpusSnapshot snapshot = new CorpusSnapshot(jsonPath);
+        List<Makale> data = snapshot.read();
+        if (data != null) {
+            log.println("  anlık görüntüden yüklendi: " + snapshot.getSnapshotPath());
+            return data;
+        }
+        data = JsonParser.parseParallel(jsonPath.toString());
+        try {
+            snapshot.write(data);
+        } catch (IOException e) {
+            log.println("  anlık görüntü yazılamadı: " + e.getMessage());
+        }
+        return data;
+    }
+
+    private static long write(Options opt, GraphAlgorithms algorithms, BibliometricTable table,
+                              BetweennessEstimate betweenness) throws IOException {
+        boolean jsonl = "jsonl".equals(opt.format);
+        CitationGraph graph = algorithms.getGraph();
+        int n = graph.nodeCount();
+
+        // "-" (stdout) kapatılmaz: yazıcı kapanınca yalnızca boşaltılır
+        OutputStream out = opt.output == null ? nonClosing(System.out) : Files.newOutputStream(opt.output);
+        try (Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16)) {
+            StringBuilder row = new StringBuilder(256);
+            if (!jsonl) {
+                w.write(String.join(",", COLUMNS));
+                w.write('\n');
+            }
+            for (int i = 0; i < n; i++) {
+                Makale m = algorithms.getMakale(i);
+                Object[] values = {
+                        m.getId(), m.getYear(), table.citationCount(i), graph.outDegree(i),
+                        table.hIndex(i), table.hMedian(i), algorithms.getCoreNumber(i),
+                        betweenness == null ? null : betweenness.score(i)
+                };
+                row.setLength(0);
+                if (jsonl) appendJson(row, values);
+                else appendCsv(row, values);
+                row.append('\n');
+                w.append(row);
+            }
+        }
+        return n;
+    }
+
+    /** close() çağrısında akışı kapatmadan boşaltan sarmalayıcı (System.out sonraki loglar için açık kalır). */
+    private static OutputStream nonClosing(OutputStream target) {
+        return new FilterOutputStream(target) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    private static void appendCsv(StringBuilder sb, Object[] values) {
+        for (int c = 0; c < values.length; c++) {
+            if (c > 0) sb.append(',');
+            Object v = values[c];
+            if (v == null) continue;
+            if (v instanceof String) {
+                String s = (String) v;
+                if (s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0) {
+                    sb.append('"').append(s.replace("\"", "\"\"")).append('"');
+                } else {
+                    sb.append(s);
+                }
+            } else {
+                appendNumber(sb, v);
+            }
+        }
+    }
+
+    private static void appendJson(StringBuilder sb, Object[] values) {
+        sb.append('{');
+        for (int c = 0; c < values.length; c++) {
+            if (c > 0) sb.append(',');
+            sb.append('"').append(COLUMNS[c]).append("\":");
+            Object v = values[c];
+            if (v == null) {
+                sb.append("null");
+            } else if (v instanceof String) {
+                appendJsonString(sb, (String) v);
+            } else {
+                appendNumber(sb, v);
+            }
+        }
+        sb.append('}');
+    }
+
+    private static void appendNumber(StringBuilder sb, Object v) {
+        if (v instanceof Double) {
+            double d = (Double) v;
+            // Tam sayı değerli skorlar ".0" olmadan, diğerleri 4 basamakla
+            if (d == Math.rint(d) && Math.abs(d) < 1e15) sb.append((long) d);
+            else sb.append(String.format(Locale.ROOT, "%.4f", d));
+        } else {
+            sb.append(v);
+        }
+    }
+
+    private static void appendJsonString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                sb.append('\\').append(ch);
+            } else if (ch < 0x20) {
+                sb.append(String.format("\\u%04x", (int) ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        sb.append('"');
+    }
+
+    /** Komut satırı seçenekleri. */
+    private static final class Options {
+        static final String USAGE = String.join("\n",
+                "Kullanım: BatchAnalytics [--input data.json] [--output -|dosya] [--format csv|jsonl]",
+                "                         [--betweenness auto|exact|approx|none]",
+                "                         [--epsilon 0.01] [--delta 0.1] [--seed 42]");
+
+        static final List<String> OPTIONS = List.of(
+                "--input", "--output", "--format", "--betweenness", "--epsilon", "--delta", "--seed");
+
+        Path input = Path.of("data.json");
+        Path output; // null: standart çıktı
+        String format;
+        String betweenness = "auto";
+        double epsilon = 0.01;
+        double delta = 0.1;
+        long seed = 42L;
+
+        static Options parse(String[] args) {
+            Options o = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String a = args[i];
+                if ("--help".equals(a) || "-h".equals(a)) throw new IllegalArgumentException("yardım istendi");
+                if (!OPTIONS.contains(a)) throw new IllegalArgumentException("bilinmeyen seçenek: " + a);
+                if (i + 1 >= args.length) throw new IllegalArgumentException("değer eksik: " + a);
+                String v = args[++i];
+                try {
+                    if ("--input".equals(a)) o.input = Path.of(v);
+                    else if ("--output".equals(a)) o.output = "-".equals(v) ? null : Path.of(v);
+                    else if ("--format".equals(a)) o.format = v;
+                    else if ("--betweenness".equals(a)) o.betweenness = v;
+                    else if ("--epsilon".equals(a)) o.epsilon = Double.parseDouble(v);
+                    else if ("--delta".equals(a)) o.delta = Double.parseDouble(v);
+                    else o.seed = Long.parseLong(v);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("geçersiz sayı: " + a + " " + v);
+                }
+            }
+
+            if (o.format == null) {
+                boolean jsonl = o.output != null && o.output.toString().toLowerCase(Locale.ROOT).endsWith(".jsonl");
+                o.format = jsonl ? "jsonl" : "csv";
+            }
+            if (!"csv".equals(o.format) && !"jsonl".equals(o.format)) {
+                throw new IllegalArgumentException("format csv veya jsonl olmalı: " + o.format);
+            }
+            if (!List.of("auto", "exact", "approx", "none").contains(o.betweenness)) {
+                throw new IllegalArgumentException("betweenness auto, exact, approx veya none olmalı: " + o.betweenness);
+            }
+            if (!Files.isRegularFile(o.input)) throw new IllegalArgumentException("korpus bulunamadı: " + o.input);
+            return o;
+        }
+    }
+}
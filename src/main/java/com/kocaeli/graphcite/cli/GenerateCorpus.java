@@ -0,0 +1,73 @@
+package com.kocaeli.graphcite.cli;
+
+import com.kocaeli.graphcite.parser.SyntheticCorpusGenerator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ölçek testleri için sentetik korpus üretir (bkz. SyntheticCorpusGenerator).
+ *
+ * Kullanım:
+ *   java -cp GraphCite.jar com.kocaeli.graphcite.cli.GenerateCorpus --papers 10000000 --output corpus-10m.json [--seed 42]
+ *
+ * Üretilen dosya doğrudan uygulamaya veya BatchAnalytics --input ile toplu analize verilebilir.
+ */
+public final class GenerateCorpus {
+
+    private static final String USAGE =
+            "Kullanım: GenerateCorpus --papers N --output dosya.json [--seed 42]";
+
+    private static final List<String> OPTIONS = List.of("--papers", "--output", "--seed");
+
+    private GenerateCorpus() {
+    }
+
+    public static void main(String[] args) {
+        int papers = -1;
+        Path output = null;
+        long seed = 42L;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String a = args[i];
+                if ("--help".equals(a) || "-h".equals(a)) throw new IllegalArgumentException("yardım istendi");
+                if (!OPTIONS.contains(a)) throw new IllegalArgumentException("bilinmeyen seçenek: " + a);
+                if (i + 1 >= args.length) throw new IllegalArgumentException("değer eksik: " + a);
+                String v = args[++i];
+                try {
+                    if ("--papers".equals(a)) papers = Integer.parseInt(v.replace("_", ""));
+                    else if ("--output".equals(a)) output = Path.of(v);
+                    else seed = Long.parseLong(v);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("geçersiz sayı: " + a + " " + v);
+                }
+            }
+            if (papers < 0) throw new IllegalArgumentException("--papers gerekli");
+            if (output == null) throw new IllegalArgumentException("--output gerekli");
+        } catch (IllegalArgumentException e) {
+            System.err.println("Hata: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        long start = System.nanoTime();
+        int total = papers;
+        try {
+            Path parent = output.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            new SyntheticCorpusGenerator(papers, seed).write(output, done -> {
+                double s = (System.nanoTime() - start) / 1e9;
+                System.err.printf(Locale.ROOT, "%,d / %,d makale (%.1f s, %,.0f makale/s)%n",
+                        done, total, s, done / Math.max(s, 1e-9));
+            });
+            System.err.printf(Locale.ROOT, "Yazıldı: %s (%,d bayt)%n", output, Files.size(output));
+        } catch (Exception e) {
+            System.err.println("Korpus üretilemedi: " + e);
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
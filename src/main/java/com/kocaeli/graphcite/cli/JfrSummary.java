@@ -0,0 +1,168 @@
+package com.kocaeli.graphcite.cli;
+
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Bir .jfr kaydındaki GraphCite olaylarını özetler.
+ *
+ * Kullanım:
+ *   java -cp GraphCite.jar com.kocaeli.graphcite.cli.JfrSummary graphcite.jfr [--top 5]
+ *
+ * Her olay türü için adet, toplam, p50, p95 ve maksimum süre; ardından en yavaş olaylar alanları,
+ * iş parçacığı, çağıran metot ve olay süresince yaşanan GC duraklamaları ile aynı iş parçacığının
+ * kilit/park beklemeleriyle birlikte listelenir ("K-Core uygulamayı dondurdu" türü raporlar için).
+ * Kayıt graphcite.jfc ayarlarıyla alınmalıdır (bkz. README).
+ */
+public final class JfrSummary {
+
+    private static final String PREFIX = "com.kocaeli.graphcite.";
+    private static final Set<String> WAIT_EVENTS = Set.of("jdk.JavaMonitorEnter", "jdk.JavaMonitorWait", "jdk.ThreadPark");
+    private static final Set<String> OMITTED_FIELDS = Set.of("startTime", "duration", "eventThread", "stackTrace");
+
+    /** Başlangıç/bitiş anı ve (bekleme olayları için) iş parçacığı. */
+    private static final class Interval {
+        final Instant start;
+        final Instant end;
+        final long threadId;
+
+        Interval(RecordedEvent e) {
+            this.start = e.getStartTime();
+            this.end = e.getEndTime();
+            RecordedThread t = e.getThread();
+            this.threadId = t == null ? -1 : t.getJavaThreadId();
+        }
+
+        /** Bu aralığın [from, to] ile kesişen süresi. */
+        Duration overlap(Instant from, Instant to) {
+            Instant s = start.isAfter(from) ? start : from;
+            Instant e = end.isBefore(to) ? end : to;
+            return e.isAfter(s) ? Duration.between(s, e) : Duration.ZERO;
+        }
+    }
+
+    private JfrSummary() {
+    }
+
+    public static void main(String[] args) {
+        Path file = null;
+        int top = 5;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if ("--top".equals(args[i]) && i + 1 < args.length) top = Integer.parseInt(args[++i]);
+                else if (args[i].startsWith("-")) throw new IllegalArgumentException("bilinmeyen seçenek: " + args[i]);
+                else file = Path.of(args[i]);
+            }
+            if (file == null) throw new IllegalArgumentException("kayıt dosyası gerekli");
+            if (!Files.isRegularFile(file)) throw new IllegalArgumentException("dosya bulunamadı: " + file);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Hata: " + e.getMessage());
+            System.err.println("Kullanım: JfrSummary kayit.jfr [--top 5]");
+            System.exit(2);
+            return;
+        }
+
+        try {
+            summarize(file, top, System.out);
+        } catch (IOException e) {
+            System.err.println("Kayıt okunamadı: " + e);
+            System.exit(1);
+        }
+    }
+
+    static void summarize(Path file, int top, PrintStream out) throws IOException {
+        Map<String, List<RecordedEvent>> byType = new TreeMap<>();
+        List<Interval> gcPauses = new ArrayList<>();
+        List<Interval> waits = new ArrayList<>();
+
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent e = recording.readEvent();
+                String type = e.getEventType().getName();
+                if (type.startsWith(PREFIX)) byType.computeIfAbsent(type, k -> new ArrayList<>()).add(e);
+                else if ("jdk.GCPhasePause".equals(type)) gcPauses.add(new Interval(e));
+                else if (WAIT_EVENTS.contains(type)) waits.add(new Interval(e));
+            }
+        }
+
+        out.println("Kayıt: " + file);
+        if (byType.isEmpty()) {
+            out.println("GraphCite olayı yok (kayıt graphcite.jfc ile alındı mı?).");
+            return;
+        }
+
+        out.printf(Locale.ROOT, "%n%-36s %7s %12s %10s %10s %10s%n", "olay", "adet", "toplam ms", "p50 ms", "p95 ms", "maks ms");
+        for (Map.Entry<String, List<RecordedEvent>> en : byType.entrySet()) {
+            List<RecordedEvent> events = en.getValue();
+            events.sort(Comparator.comparing(RecordedEvent::getDuration));
+            double total = 0;
+            for (RecordedEvent e : events) total += millis(e.getDuration());
+            out.printf(Locale.ROOT, "%-36s %7d %12.1f %10.2f %10.2f %10.2f%n",
+                    en.getKey().substring(PREFIX.length()), events.size(), total,
+                    millis(percentile(events, 0.50)), millis(percentile(events, 0.95)),
+                    millis(events.get(events.size() - 1).getDuration()));
+        }
+
+        for (Map.Entry<String, List<RecordedEvent>> en : byType.entrySet()) {
+            List<RecordedEvent> events = en.getValue();
+            out.printf(Locale.ROOT, "%nEn yavaş %s:%n", en.getKey().substring(PREFIX.length()));
+            for (int i = events.size() - 1; i >= Math.max(0, events.size() - top); i--) {
+                RecordedEvent e = events.get(i);
+                Instant from = e.getStartTime();
+                Instant to = e.getEndTime();
+                RecordedThread thread = e.getThread();
+                long threadId = thread == null ? -2 : thread.getJavaThreadId();
+
+                Duration gc = Duration.ZERO;
+                for (Interval p : gcPauses) gc = gc.plus(p.overlap(from, to));
+                Duration blocked = Duration.ZERO;
+                for (Interval w : waits) if (w.threadId == threadId) blocked = blocked.plus(w.overlap(from, to));
+
+                out.printf(Locale.ROOT, "  %10.2f ms  %s  [%s]%n", millis(e.getDuration()), fields(e),
+                        thread == null ? "?" : thread.getJavaName());
+                out.printf(Locale.ROOT, "               GC duraklaması %.2f ms, kilit/park beklemesi %.2f ms%s%n",
+                        millis(gc), millis(blocked), caller(e));
+            }
+        }
+    }
+
+    private static Duration percentile(List<RecordedEvent> sorted, double q) {
+        int i = (int) Math.ceil(q * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, i))).getDuration();
+    }
+
+    private static String fields(RecordedEvent e) {
+        StringBuilder sb = new StringBuilder();
+        for (ValueDescriptor f : e.getFields()) {
+            if (OMITTED_FIELDS.contains(f.getName())) continue;
+            if (sb.length() > 0) sb.append(", ");
+            Object value = e.getValue(f.getName());
+            sb.append(f.getName()).append('=').append(value);
+        }
+        return sb.toString();
+    }
+
+    /** Olayı kaydeden metodu çağıran çerçeve (yığın kaydı varsa). */
+    private static String caller(RecordedEvent e) {
+        RecordedStackTrace st = e.getStackTrace();
+        if (st == null || st.getFrames().size() < 2) return "";
+        RecordedFrame f = st.getFrames().get(1);
+        return ", çağıran " + f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber();
+    }
+
+    private static double millis(Duration d) {
+        return d.toNanos() / 1e6;
+    }
+}
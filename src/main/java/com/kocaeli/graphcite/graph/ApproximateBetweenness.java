@@ -0,0 +1,243 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.IdDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Riondato–Kornaropoulos yöntemiyle yaklaşık betweenness (yol örnekleme).
+ * Rastgele (s, t) çiftleri seçilir, aralarındaki en kısa yollardan biri düzgün olasılıkla
+ * örneklenir ve yolun iç düğümlerine 1/r eklenir. Örnek sayısı
+ *   r = ⌈ c/ε² · (⌊log2(VD − 2)⌋ + 1 + ln(1/δ)) ⌉
+ * ile seçilir (VD: köşe çapı üst sınırı); bu durumda tüm düğümlerin normalize betweenness tahmini
+ * 1 − δ olasılıkla gerçek değerden en fazla ε sapar.
+ *
+ * Örnekler büyüyen partiler halinde paralel işlenir; her partiden sonra güncel tahmin yayınlanır,
+ * böylece arayüz ilk sonuçları hemen gösterip zamanla iyileştirebilir.
+ * Aynı seed ile sonuçlar iş parçacığı sayısından bağımsız olarak aynıdır.
+ */
+final class ApproximateBetweenness {
+
+    private static final double C = 0.5;
+    private static final int FIRST_BATCH = 256;
+    // Görev başına sabit örnek sayısı: RNG akışları paralellik derecesinden bağımsız olsun
+    private static final int SAMPLES_PER_TASK = 64;
+
+    private final UndirectedView view;
+    private final IdDictionary ids;
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+    private final ConcurrentLinkedQueue<Worker> idle = new ConcurrentLinkedQueue<>();
+    private final List<Worker> all = new ArrayList<>();
+
+    ApproximateBetweenness(UndirectedView view, IdDictionary ids) {
+        this.view = view;
+        this.ids = ids;
+    }
+
+    /** (ε, δ) garantisi için gereken örnek sayısı. */
+    static int sampleCount(int vertexDiameter, double epsilon, double delta) {
+        int logTerm = vertexDiameter > 3 ? 31 - Integer.numberOfLeadingZeros(vertexDiameter - 2) : 0;
+        double r = C / (epsilon * epsilon) * (logTerm + 1 + Math.log(1.0 / delta));
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(r));
+    }
+
+    /**
+     * Tahmini çalıştırır; her partiden sonra onProgress çağrılır (null olabilir).
+     * Çağıran iş parçacığı kesilirse (interrupt) parti arasında durur ve son tahmini döndürür.
+     */
+    BetweennessEstimate run(double epsilon, double delta, long seed, Consumer<BetweennessEstimate> onProgress) {
+        int n = view.size();
+        double[] scores = new double[ids.size()];
+        if (n < 3) return new BetweennessEstimate(ids, scores, 0, 0);
+
+        int r = sampleCount(vertexDiameterUpperBound(), epsilon, delta);
+        // Normalize değer (1/(n(n−1)) üzerinden) Brandes ölçeğine: n(n−1)/2 çift
+        double pairScale = (double) n * (n - 1) / 2.0;
+
+        SplittableRandom root = new SplittableRandom(seed);
+        int done = 0;
+        int batch = FIRST_BATCH;
+        BetweennessEstimate last = new BetweennessEstimate(ids, scores, 0, r);
+
+        while (done < r) {
+            if (Thread.currentThread().isInterrupted()) break;
+
+            int size = Math.min(batch, r - done);
+            int tasks = (size + SAMPLES_PER_TASK - 1) / SAMPLES_PER_TASK;
+            List<Batch> parts = new ArrayList<>(tasks);
+            for (int t = 0; t < tasks; t++) {
+                int from = (int) ((long) size * t / tasks);
+                int to = (int) ((long) size * (t + 1) / tasks);
+                parts.add(new Batch(to - from, root.split()));
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(parts);
+                }
+            });
+            done += size;
+
+            // Tüm işçilerin kümülatif sayımlarını topla ve ölçekle
+            double[] estimate = new double[ids.size()];
+            double factor = pairScale / done;
+            for (Worker w : snapshotWorkers()) {
+                for (int v = 0; v < n; v++) estimate[view.nodes[v]] += w.hits[v];
+            }
+            for (int v = 0; v < n; v++) estimate[view.nodes[v]] *= factor;
+
+            last = new BetweennessEstimate(ids, estimate, done, r);
+            if (onProgress != null) onProgress.accept(last);
+            batch = batch * 2;
+        }
+        return last;
+    }
+
+    private synchronized List<Worker> snapshotWorkers() {
+        return new ArrayList<>(all);
+    }
+
+    private Worker borrow() {
+        Worker w = idle.poll();
+        if (w == null) {
+            w = new Worker(view.size());
+            synchronized (this) {
+                all.add(w);
+            }
+        }
+        return w;
+    }
+
+    /**
+     * Köşe çapı (en uzun en kısa yoldaki düğüm sayısı) için üst sınır:
+     * her bağlı bileşende bir düğümden BFS, eksantriklik e ise çap ≤ 2e, köşe sayısı ≤ 2e + 1.
+     */
+    private int vertexDiameterUpperBound() {
+        int n = view.size();
+        int[] dist = new int[n];
+        Arrays.fill(dist, -1);
+        int[] queue = new int[n];
+        int best = 1;
+        for (int start = 0; start < n; start++) {
+            if (dist[start] != -1) continue;
+            int head = 0, tail = 0, ecc = 0;
+            dist[start] = 0;
+            queue[tail++] = start;
+            while (head < tail) {
+                int v = queue[head++];
+                ecc = dist[v];
+                for (int k = view.offsets[v]; k < view.offsets[v + 1]; k++) {
+                    int w = view.targets[k];
+                    if (dist[w] == -1) {
+                        dist[w] = dist[v] + 1;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+            best = Math.max(best, 2 * ecc + 1);
+        }
+        return best;
+    }
+
+    private final class Batch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int samples;
+        private final SplittableRandom random;
+
+        Batch(int samples, SplittableRandom random) {
+            this.samples = samples;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            Worker w = borrow();
+            try {
+                for (int i = 0; i < samples; i++) w.sample(random);
+            } finally {
+                idle.add(w);
+            }
+        }
+    }
+
+    /** İşçinin tekrar kullanılan BFS dizileri ve kümülatif isabet sayıları. */
+    private final class Worker {
+        final int[] queue;
+        final int[] dist;
+        final double[] sigma;
+        final double[] hits;
+
+        Worker(int n) {
+            queue = new int[n];
+            dist = new int[n];
+            sigma = new double[n];
+            hits = new double[n];
+            Arrays.fill(dist, -1);
+        }
+
+        /** Bir (s, t) çifti seçip aralarındaki en kısa yollardan birini düzgün olasılıkla örnekler. */
+        void sample(SplittableRandom random) {
+            int n = view.size();
+            int s = random.nextInt(n);
+            int t = random.nextInt(n - 1);
+            if (t >= s) t++;
+
+            int[] offsets = view.offsets;
+            int[] targets = view.targets;
+            int head = 0, tail = 0;
+            dist[s] = 0;
+            sigma[s] = 1.0;
+            queue[tail++] = s;
+
+            // t'nin seviyesine kadar BFS; o seviyedeki düğümler işlenmeden durulur
+            while (head < tail) {
+                int v = queue[head++];
+                if (dist[t] != -1 && dist[v] >= dist[t]) break;
+                int dv = dist[v] + 1;
+                for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+                    int w = targets[k];
+                    if (dist[w] == -1) {
+                        dist[w] = dv;
+                        queue[tail++] = w;
+                    }
+                    if (dist[w] == dv) {
+                        sigma[w] += sigma[v];
+                    }
+                }
+            }
+
+            if (dist[t] != -1) {
+                // t'den s'ye geri yürü: öncül z, sigma[z]/sigma[w] olasılıkla seçilir
+                int w = t;
+                while (w != s) {
+                    double pick = random.nextDouble() * sigma[w];
+                    int dw = dist[w] - 1;
+                    int chosen = -1;
+                    for (int k = offsets[w]; k < offsets[w + 1]; k++) {
+                        int z = targets[k];
+                        if (dist[z] != dw) continue;
+                        chosen = z;
+                        pick -= sigma[z];
+                        if (pick < 0) break;
+                    }
+                    w = chosen;
+                    if (w != s) hits[w] += 1.0;
+                }
+            }
+
+            for (int i = 0; i < tail; i++) {
+                int v = queue[i];
+                dist[v] = -1;
+                sigma[v] = 0.0;
+            }
+        }
+    }
+}
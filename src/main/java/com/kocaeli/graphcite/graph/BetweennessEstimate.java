@@ -0,0 +1,80 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.IdDictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Yaklaşık betweenness'ın anlık bir tahmini.
+ * Skorlar Brandes ile aynı ölçektedir (yönsüz, sıralı olmayan çiftler üzerinden toplam);
+ * örnek sayısı arttıkça yeni bir tahmin nesnesi yayınlanır.
+ */
+public final class BetweennessEstimate {
+
+    private final IdDictionary ids;
+    // view null ise skorlar global indeksli, değilse görünümün yerel indeksli (alt küme boyutunda)
+    private final UndirectedView view;
+    private final double[] scores;
+    private final int samplesDone;
+    private final int samplesTotal;
+
+    BetweennessEstimate(IdDictionary ids, double[] scores, int samplesDone, int samplesTotal) {
+        this(ids, null, scores, samplesDone, samplesTotal);
+    }
+
+    /** Bir alt küme görünümünün yerel indeksli skorları; görünüm dışındaki makalelerin skoru 0'dır. */
+    BetweennessEstimate(IdDictionary ids, UndirectedView view, double[] scores, int samplesDone, int samplesTotal) {
+        this.ids = ids;
+        this.view = view;
+        this.scores = scores;
+        this.samplesDone = samplesDone;
+        this.samplesTotal = samplesTotal;
+    }
+
+    public int getSamplesDone() { return samplesDone; }
+    public int getSamplesTotal() { return samplesTotal; }
+
+    /** Tüm örnekler tamamlandıysa (ε, δ) garantisi geçerlidir. */
+    public boolean isFinal() { return samplesDone >= samplesTotal; }
+
+    /** Global indeksli makalenin skoru. */
+    public double score(int index) {
+        if (view == null) return scores[index];
+        int local = view.localIndex(index);
+        return local < 0 ? 0.0 : scores[local];
+    }
+
+    public double score(String id) {
+        int i = ids.indexOf(id);
+        return i == IdDictionary.MISSING ? 0.0 : score(i);
+    }
+
+    /** En yüksek skorlu k makale (azalan sırayla). */
+    public List<Map.Entry<String, Double>> top(int k) {
+        int n = scores.length;
+        k = Math.min(k, n);
+        // k küçük: basit seçme; tam sıralama yapılmaz
+        int[] best = new int[k];
+        int size = 0;
+        for (int v = 0; v < n; v++) {
+            double s = scores[v];
+            if (size < k) {
+                int p = size++;
+                while (p > 0 && scores[best[p - 1]] < s) { best[p] = best[p - 1]; p--; }
+                best[p] = v;
+            } else if (k > 0 && s > scores[best[k - 1]]) {
+                int p = k - 1;
+                while (p > 0 && scores[best[p - 1]] < s) { best[p] = best[p - 1]; p--; }
+                best[p] = v;
+            }
+        }
+        List<Map.Entry<String, Double>> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int global = view == null ? best[i] : view.nodes[best[i]];
+            result.add(Map.entry(ids.idOf(global), scores[best[i]]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.metrics.Metrics;
+import com.kocaeli.graphcite.model.IdDictionary;
+
+import java.util.stream.IntStream;
+
+/**
+ * Tüm korpus için önceden hesaplanmış bibliyometrik tablo:
+ * atıf sayısı, h-index, h-core boyutu ve h-median.
+ * Tek bir paralel geçişte doldurulur, sonuçlar ilkel dizilerde tutulur ve
+ * hem int indeksle hem de String id ile O(1) sorgulanır.
+ */
+public final class BibliometricTable {
+
+    private final IdDictionary ids;
+    private final int[] citationCount;
+    private final int[] hIndex;
+    private final int[] hMedian;
+
+    private BibliometricTable(IdDictionary ids, int[] citationCount, int[] hIndex, int[] hMedian) {
+        this.ids = ids;
+        this.citationCount = citationCount;
+        this.hIndex = hIndex;
+        this.hMedian = hMedian;
+    }
+
+    /**
+     * Her makale için değerleri paralel hesaplar. Her makalenin maliyeti kendi in-degree'si
+     * kadar olduğundan toplam iş O(E log d), döngü içinde tekrar tarama yapılmaz.
+     * Makale başına ölçümsüz yardımcılar çağrılır; tüm doldurma tek bir zamanlayıcıya yazılır,
+     * böylece etkileşimli sorguların süre dağılımı toplu işle karışmaz.
+     */
+    static BibliometricTable compute(GraphAlgorithms algorithms) {
+        long t = Metrics.start();
+        CitationGraph graph = algorithms.getGraph();
+        int n = graph.nodeCount();
+        int[] citationCount = new int[n];
+        int[] hIndex = new int[n];
+        int[] hMedian = new int[n];
+
+        IntStream.range(0, n).parallel().forEach(i -> {
+            citationCount[i] = graph.inDegree(i);
+            hIndex[i] = algorithms.hIndexOf(i);
+            hMedian[i] = hIndex[i] == 0 ? 0 : algorithms.hMedianOf(i);
+        });
+        Metrics.stop("algorithms.bibliometricTable", t);
+
+        return new BibliometricTable(algorithms.getIds(), citationCount, hIndex, hMedian);
+    }
+
+    public int size() { return hIndex.length; }
+
+    public int citationCount(int i) { return citationCount[i]; }
+    public int hIndex(int i) { return hIndex[i]; }
+    /** h-core, en çok atıf almış ilk h atıf yapandan oluştuğu için boyutu h-index'e eşittir. */
+    public int hCoreSize(int i) { return hIndex[i]; }
+    public int hMedian(int i) { return hMedian[i]; }
+
+    public int citationCount(String id) { int i = ids.indexOf(id); return i < 0 ? 0 : citationCount[i]; }
+    public int hIndex(String id) { int i = ids.indexOf(id); return i < 0 ? 0 : hIndex[i]; }
+    public int hCoreSize(String id) { return hIndex(id); }
+    public int hMedian(String id) { int i = ids.indexOf(id); return i < 0 ? 0 : hMedian[i]; }
+}
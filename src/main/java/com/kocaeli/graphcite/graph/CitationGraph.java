@@ -0,0 +1,181 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.IdDictionary;
+import com.kocaeli.graphcite.model.Makale;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Atıf grafının değişmez CSR (compressed sparse row) gösterimi.
+ * Düğümler IdDictionary indeksleridir. Üç görünüm bir kez kurulur:
+ *  - ileri (forward): i'nin korpus içindeki referansları, tekrarsız, dosyadaki ilk görülme sırasıyla
+ *  - geri (backward): i'ye atıf yapanlar (cited-by), artan indeks sırasıyla
+ *  - yönsüz (undirected): ileri ∪ geri, tekrarsız ve kendine kenar (self-citation) olmadan
+ * Komşular offsets[v] .. offsets[v+1] aralığındadır. Dönen diziler paylaşılır, değiştirilmemelidir.
+ */
+public final class CitationGraph {
+
+    private final int n;
+    private final int[] fwdOffsets;
+    private final int[] fwdTargets;
+    private final int[] bwdOffsets;
+    private final int[] bwdTargets;
+    private final int[] undOffsets;
+    private final int[] undTargets;
+
+    private CitationGraph(int n, int[] fwdOffsets, int[] fwdTargets, int[] bwdOffsets, int[] bwdTargets,
+                          int[] undOffsets, int[] undTargets) {
+        this.n = n;
+        this.fwdOffsets = fwdOffsets;
+        this.fwdTargets = fwdTargets;
+        this.bwdOffsets = bwdOffsets;
+        this.bwdTargets = bwdTargets;
+        this.undOffsets = undOffsets;
+        this.undTargets = undTargets;
+    }
+
+    /**
+     * Makalelerin referans listelerinden grafı kurar; korpus dışı referanslar atlanır.
+     * Toplam maliyet O(V + E): tekrar kontrolü List.contains yerine damga (stamp) dizisiyle yapılır.
+     */
+    public static CitationGraph build(IdDictionary ids, List<Makale> makaleler) {
+        int n = makaleler.size();
+        int[] stamp = new int[n];
+
+        // --- ileri ---
+        int[] fwdOffsets = new int[n + 1];
+        int[] fwdTargets = new int[Math.max(16, n * 2)];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            fwdOffsets[i] = size;
+            List<String> refs = makaleler.get(i).getReferencedWorkIds();
+            if (refs == null) continue;
+            for (String refId : refs) {
+                int r = ids.indexOf(refId);
+                if (r == IdDictionary.MISSING || stamp[r] == i + 1) continue;
+                stamp[r] = i + 1;
+                if (size == fwdTargets.length) fwdTargets = Arrays.copyOf(fwdTargets, size + (size >> 1));
+                fwdTargets[size++] = r;
+            }
+        }
+        fwdOffsets[n] = size;
+        fwdTargets = Arrays.copyOf(fwdTargets, size);
+
+        // --- geri (counting sort; atıf yapanlar artan sırada) ---
+        int[] bwdOffsets = new int[n + 1];
+        for (int t : fwdTargets) bwdOffsets[t + 1]++;
+        for (int v = 0; v < n; v++) bwdOffsets[v + 1] += bwdOffsets[v];
+        int[] bwdTargets = new int[size];
+        int[] cursor = Arrays.copyOf(bwdOffsets, n);
+        for (int i = 0; i < n; i++) {
+            for (int k = fwdOffsets[i]; k < fwdOffsets[i + 1]; k++) {
+                bwdTargets[cursor[fwdTargets[k]]++] = i;
+            }
+        }
+
+        // --- yönsüz: önce say, sonra doldur ---
+        Arrays.fill(stamp, 0);
+        int[] undOffsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            int count = 0;
+            stamp[v] = v + 1; // kendine kenar yok
+            for (int k = fwdOffsets[v]; k < fwdOffsets[v + 1]; k++) {
+                int w = fwdTargets[k];
+                if (stamp[w] != v + 1) { stamp[w] = v + 1; count++; }
+            }
+            for (int k = bwdOffsets[v]; k < bwdOffsets[v + 1]; k++) {
+                int w = bwdTargets[k];
+                if (stamp[w] != v + 1) { stamp[w] = v + 1; count++; }
+            }
+            undOffsets[v + 1] = undOffsets[v] + count;
+        }
+        Arrays.fill(stamp, 0);
+        int[] undTargets = new int[undOffsets[n]];
+        for (int v = 0; v < n; v++) {
+            int pos = undOffsets[v];
+            stamp[v] = v + 1;
+            for (int k = fwdOffsets[v]; k < fwdOffsets[v + 1]; k++) {
+                int w = fwdTargets[k];
+                if (stamp[w] != v + 1) { stamp[w] = v + 1; undTargets[pos++] = w; }
+            }
+            for (int k = bwdOffsets[v]; k < bwdOffsets[v + 1]; k++) {
+                int w = bwdTargets[k];
+                if (stamp[w] != v + 1) { stamp[w] = v + 1; undTargets[pos++] = w; }
+            }
+        }
+
+        return new CitationGraph(n, fwdOffsets, fwdTargets, bwdOffsets, bwdTargets, undOffsets, undTargets);
+    }
+
+    public int nodeCount() { return n; }
+
+    /** Tekrarsız, korpus içi atıf (ileri kenar) sayısı. */
+    public int edgeCount() { return fwdTargets.length; }
+
+    public int outDegree(int v) { return fwdOffsets[v + 1] - fwdOffsets[v]; }
+    public int inDegree(int v) { return bwdOffsets[v + 1] - bwdOffsets[v]; }
+    public int degree(int v) { return undOffsets[v + 1] - undOffsets[v]; }
+
+    public int[] forwardOffsets() { return fwdOffsets; }
+    public int[] forwardTargets() { return fwdTargets; }
+    public int[] backwardOffsets() { return bwdOffsets; }
+    public int[] backwardTargets() { return bwdTargets; }
+    public int[] undirectedOffsets() { return undOffsets; }
+    public int[] undirectedTargets() { return undTargets; }
+
+    /** v, target'a atıf yapıyor mu? (v'nin ileri komşuları taranır) */
+    public boolean cites(int v, int target) {
+        for (int k = fwdOffsets[v]; k < fwdOffsets[v + 1]; k++) {
+            if (fwdTargets[k] == target) return true;
+        }
+        return false;
+    }
+
+    /** Tüm grafın yönsüz görünümü (yerel indeks = global indeks). */
+    UndirectedView undirected() {
+        int[] nodes = new int[n];
+        for (int i = 0; i < n; i++) nodes[i] = i;
+        return new UndirectedView(nodes, undOffsets, undTargets);
+    }
+
+    /**
+     * Verilen düğümlerin oluşturduğu alt grafın (induced subgraph) yönsüz görünümü.
+     * Yerel indeksler nodes dizisindeki sıradır. Global -> yerel eşleme alt küme boyutunda sıralı bir
+     * dizide ikili aramayla yapılır; korpus boyutunda dizi ayrılmaz. Maliyet O(d log m)'dir
+     * (d: alt kümenin derece toplamı, m: alt küme boyutu).
+     */
+    UndirectedView undirected(int[] nodes) {
+        int m = nodes.length;
+        // (global << 32 | yerel) çiftleri globale göre sıralanır
+        long[] pairs = new long[m];
+        for (int i = 0; i < m; i++) pairs[i] = ((long) nodes[i] << 32) | i;
+        Arrays.sort(pairs);
+        int[] sorted = new int[m];
+        int[] localOf = new int[m];
+        for (int i = 0; i < m; i++) {
+            sorted[i] = (int) (pairs[i] >>> 32);
+            localOf[i] = (int) pairs[i];
+        }
+
+        int[] offsets = new int[m + 1];
+        for (int i = 0; i < m; i++) {
+            int v = nodes[i];
+            int count = 0;
+            for (int k = undOffsets[v]; k < undOffsets[v + 1]; k++) {
+                if (Arrays.binarySearch(sorted, undTargets[k]) >= 0) count++;
+            }
+            offsets[i + 1] = offsets[i] + count;
+        }
+        int[] targets = new int[offsets[m]];
+        for (int i = 0; i < m; i++) {
+            int v = nodes[i];
+            int pos = offsets[i];
+            for (int k = undOffsets[v]; k < undOffsets[v + 1]; k++) {
+                int at = Arrays.binarySearch(sorted, undTargets[k]);
+                if (at >= 0) targets[pos++] = localOf[at];
+            }
+        }
+        return new UndirectedView(nodes, offsets, targets, sorted, localOf);
+    }
+}
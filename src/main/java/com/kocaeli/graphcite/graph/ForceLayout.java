@@ -0,0 +1,297 @@
+package com.kocaeli.graphcite.graph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Tüm atıf grafı için çevrimdışı, çok çekirdekli kuvvet yönlendirmeli yerleşim (ForceAtlas2 benzeri).
+ * Kuvvetler (m = derece + 1):
+ *  - itme: her düğüm çifti arasında kr · m_u · m_v / d; Barnes–Hut dörtlü ağacı ile O(n log n)
+ *  - çekme: her yönsüz kenar boyunca d
+ *  - yerçekimi: merkeze doğru sabit kg · m (kopuk bileşenler uzaklaşmasın)
+ * Her iterasyonda ağaç tek iş parçacığında kurulur, kuvvetler ForkJoin havuzunda paralel hesaplanır.
+ * Adım boyu ağır (çok bağlantılı) düğümlerde küçülür ve doğrusal soğuyan bir sıcaklıkla sınırlanır.
+ * Aynı seed ile sonuç iş parçacığı sayısından bağımsızdır.
+ */
+public final class ForceLayout {
+
+    private static final double THETA = 1.2;
+    private static final double REPULSION = 1.0;
+    private static final double GRAVITY = 0.05;
+    private static final int MAX_DEPTH = 48;
+    private static final int CHUNK = 2048;
+
+    private final int n;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] mass;
+    private final double[] x;
+    private final double[] y;
+    private final double[] dx;
+    private final double[] dy;
+
+    // Dörtlü ağaç hücreleri (iterasyonlar arasında tekrar kullanılır)
+    private double[] cellSumX;
+    private double[] cellSumY;
+    private double[] cellMass;
+    private int[] cellChild; // ilk çocuğun indeksi (4 ardışık hücre), yaprakta -1
+    private int[] cellPoint; // yapraktaki düğüm, boşsa -1
+    private int cellCount;
+    private double rootX, rootY, rootHalf;
+
+    private ForceLayout(CitationGraph graph, long seed) {
+        this.n = graph.nodeCount();
+        this.offsets = graph.undirectedOffsets();
+        this.targets = graph.undirectedTargets();
+        this.mass = new double[n];
+        this.x = new double[n];
+        this.y = new double[n];
+        this.dx = new double[n];
+        this.dy = new double[n];
+
+        // Başlangıç: yarıçapı √n olan diskte düzgün rastgele konumlar
+        SplittableRandom random = new SplittableRandom(seed);
+        double radius = Math.sqrt(Math.max(1, n));
+        for (int v = 0; v < n; v++) {
+            mass[v] = graph.degree(v) + 1;
+            double r = radius * Math.sqrt(random.nextDouble());
+            double a = 2 * Math.PI * random.nextDouble();
+            x[v] = r * Math.cos(a);
+            y[v] = r * Math.sin(a);
+        }
+
+        int capacity = Math.max(16, 4 * n + 4);
+        cellSumX = new double[capacity];
+        cellSumY = new double[capacity];
+        cellMass = new double[capacity];
+        cellChild = new int[capacity];
+        cellPoint = new int[capacity];
+    }
+
+    /** Korpus boyutuna göre makul iterasyon sayısı. */
+    public static int defaultIterations(int nodeCount) {
+        return nodeCount <= 50_000 ? 300 : 120;
+    }
+
+    /**
+     * Yerleşimi hesaplar; sonuç makale indeksi sırasıyla (x0, y0, x1, y1, ...) koordinatlardır.
+     * Çağıran iş parçacığı kesilirse (interrupt) iterasyonlar arasında durur ve o anki konumları döndürür.
+     */
+    public static float[] compute(CitationGraph graph, int iterations, long seed) {
+        ForceLayout layout = new ForceLayout(graph, seed);
+        layout.run(iterations);
+
+        // Ortalama kenar uzunluğu 1 GU olacak şekilde ölçekle (görüntüleyicinin ölçeğiyle uyumlu)
+        double scale = layout.meanEdgeLength();
+        scale = scale > 0 ? 1.0 / scale : 1.0;
+        float[] xy = new float[2 * layout.n];
+        for (int v = 0; v < layout.n; v++) {
+            xy[2 * v] = (float) (layout.x[v] * scale);
+            xy[2 * v + 1] = (float) (layout.y[v] * scale);
+        }
+        return xy;
+    }
+
+    private void run(int iterations) {
+        if (n == 0) return;
+        double startTemp = Math.sqrt(n);
+        double endTemp = 0.01;
+        int chunks = (n + CHUNK - 1) / CHUNK;
+
+        for (int it = 0; it < iterations; it++) {
+            if (Thread.currentThread().isInterrupted()) break;
+
+            buildTree();
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] stack = new int[4 * MAX_DEPTH + 8];
+                double[] geo = new double[3 * stack.length];
+                int to = Math.min(n, (c + 1) * CHUNK);
+                for (int v = c * CHUNK; v < to; v++) computeForce(v, stack, geo);
+            });
+
+            double temp = startTemp + (endTemp - startTemp) * it / Math.max(1, iterations - 1);
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int to = Math.min(n, (c + 1) * CHUNK);
+                for (int v = c * CHUNK; v < to; v++) {
+                    double sx = dx[v] / mass[v];
+                    double sy = dy[v] / mass[v];
+                    double len = Math.sqrt(sx * sx + sy * sy);
+                    if (len > temp) {
+                        sx *= temp / len;
+                        sy *= temp / len;
+                    }
+                    x[v] += sx;
+                    y[v] += sy;
+                }
+            });
+        }
+    }
+
+    private double meanEdgeLength() {
+        double sum = 0;
+        long count = 0;
+        for (int v = 0; v < n; v++) {
+            for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+                int w = targets[k];
+                sum += Math.hypot(x[v] - x[w], y[v] - y[w]);
+                count++;
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /** v üzerindeki toplam kuvveti dx[v], dy[v]'ye yazar. */
+    private void computeForce(int v, int[] stack, double[] geo) {
+        double px = x[v], py = y[v], mv = mass[v];
+        double fx = 0, fy = 0;
+
+        // itme (Barnes–Hut)
+        int top = 0;
+        stack[top] = 0;
+        geo[0] = rootX;
+        geo[1] = rootY;
+        geo[2] = rootHalf;
+        top++;
+        while (top > 0) {
+            top--;
+            int c = stack[top];
+            double cx = geo[3 * top], cy = geo[3 * top + 1], half = geo[3 * top + 2];
+            double m = cellMass[c];
+            if (m == 0) continue;
+
+            double comX, comY;
+            if (cellChild[c] == -1) {
+                if (cellPoint[c] == v) {
+                    // Kendi yaprağı: aynı noktadaki diğer düğümler hariç kendisi çıkarılır
+                    m -= mv;
+                    if (m <= 0) continue;
+                    comX = (cellSumX[c] - mv * px) / m;
+                    comY = (cellSumY[c] - mv * py) / m;
+                } else {
+                    comX = cellSumX[c] / m;
+                    comY = cellSumY[c] / m;
+                }
+            } else {
+                comX = cellSumX[c] / m;
+                comY = cellSumY[c] / m;
+                boolean inside = Math.abs(px - cx) <= half && Math.abs(py - cy) <= half;
+                double ddx = px - comX, ddy = py - comY;
+                double size = 2 * half;
+                if (inside || size * size >= THETA * THETA * (ddx * ddx + ddy * ddy)) {
+                    int first = cellChild[c];
+                    double h = half / 2;
+                    for (int q = 0; q < 4; q++) {
+                        stack[top] = first + q;
+                        geo[3 * top] = cx + ((q & 1) != 0 ? h : -h);
+                        geo[3 * top + 1] = cy + ((q & 2) != 0 ? h : -h);
+                        geo[3 * top + 2] = h;
+                        top++;
+                    }
+                    continue;
+                }
+            }
+
+            double ddx = px - comX, ddy = py - comY;
+            double d2 = Math.max(ddx * ddx + ddy * ddy, 0.01);
+            double f = REPULSION * mv * m / d2;
+            fx += ddx * f;
+            fy += ddy * f;
+        }
+
+        // çekme (komşulara doğru, uzaklıkla doğrusal)
+        for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+            int w = targets[k];
+            fx += x[w] - px;
+            fy += y[w] - py;
+        }
+
+        // yerçekimi
+        double r = Math.sqrt(px * px + py * py);
+        if (r > 0) {
+            fx -= GRAVITY * mv * px / r;
+            fy -= GRAVITY * mv * py / r;
+        }
+
+        dx[v] = fx;
+        dy[v] = fy;
+    }
+
+    private void buildTree() {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int v = 0; v < n; v++) {
+            minX = Math.min(minX, x[v]);
+            maxX = Math.max(maxX, x[v]);
+            minY = Math.min(minY, y[v]);
+            maxY = Math.max(maxY, y[v]);
+        }
+        rootX = (minX + maxX) / 2;
+        rootY = (minY + maxY) / 2;
+        rootHalf = Math.max(maxX - minX, maxY - minY) / 2 + 1e-6;
+
+        cellCount = 0;
+        newCell();
+        for (int v = 0; v < n; v++) insert(v);
+    }
+
+    private int newCell() {
+        if (cellCount == cellMass.length) {
+            int cap = cellCount + (cellCount >> 1);
+            cellSumX = Arrays.copyOf(cellSumX, cap);
+            cellSumY = Arrays.copyOf(cellSumY, cap);
+            cellMass = Arrays.copyOf(cellMass, cap);
+            cellChild = Arrays.copyOf(cellChild, cap);
+            cellPoint = Arrays.copyOf(cellPoint, cap);
+        }
+        int c = cellCount++;
+        cellSumX[c] = 0;
+        cellSumY[c] = 0;
+        cellMass[c] = 0;
+        cellChild[c] = -1;
+        cellPoint[c] = -1;
+        return c;
+    }
+
+    private void insert(int v) {
+        int c = 0;
+        double cx = rootX, cy = rootY, half = rootHalf;
+        for (int depth = 0; ; depth++) {
+            if (cellChild[c] == -1) {
+                if (cellPoint[c] == -1 || depth >= MAX_DEPTH) {
+                    // Boş yaprak veya derinlik sınırı (çakışan noktalar aynı yaprakta toplanır)
+                    if (cellPoint[c] == -1) cellPoint[c] = v;
+                    addMass(c, v);
+                    return;
+                }
+                // Dolu yaprağı böl: mevcut düğümü uygun çocuğa taşı
+                int existing = cellPoint[c];
+                int first = newCell();
+                newCell();
+                newCell();
+                newCell();
+                cellChild[c] = first;
+                cellPoint[c] = -1;
+                int q = quadrant(existing, cx, cy);
+                cellPoint[first + q] = existing;
+                addMass(first + q, existing);
+            }
+            addMass(c, v);
+            int q = quadrant(v, cx, cy);
+            c = cellChild[c] + q;
+            half /= 2;
+            cx += (q & 1) != 0 ? half : -half;
+            cy += (q & 2) != 0 ? half : -half;
+        }
+    }
+
+    private int quadrant(int v, double cx, double cy) {
+        return (x[v] >= cx ? 1 : 0) | (y[v] >= cy ? 2 : 0);
+    }
+
+    private void addMass(int c, int v) {
+        cellMass[c] += mass[v];
+        cellSumX[c] += mass[v] * x[v];
+        cellSumY[c] += mass[v] * y[v];
+    }
+}
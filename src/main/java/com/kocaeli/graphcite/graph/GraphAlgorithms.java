@@ -1,64 +1,140 @@
 package com.kocaeli.graphcite.graph;
 
+import com.kocaeli.graphcite.metrics.BetweennessEvent;
+import com.kocaeli.graphcite.metrics.HIndexEvent;
+import com.kocaeli.graphcite.metrics.IndexBuildEvent;
+import com.kocaeli.graphcite.metrics.KCoreEvent;
+import com.kocaeli.graphcite.metrics.Metrics;
+import com.kocaeli.graphcite.model.IdDictionary;
 import com.kocaeli.graphcite.model.Makale;
 import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 public class GraphAlgorithms {
     private List<Makale> makaleler;
-    private Map<String, Makale> makaleMap;
+    private final IdDictionary ids;
+    private final Makale[] byIndex;
+    // Tüm algoritmaların paylaştığı, bir kez kurulan CSR atıf grafı
+    private final CitationGraph graph;
+    private volatile BibliometricTable bibliometrics;
+    private volatile int[] coreNumbers;
 
     public GraphAlgorithms(List<Makale> makaleler) {
+        long t = Metrics.start();
+        IndexBuildEvent event = new IndexBuildEvent();
+        event.begin();
         this.makaleler = makaleler;
-        this.makaleMap = new HashMap<>();
+        this.ids = new IdDictionary(makaleler);
+        this.byIndex = makaleler.toArray(new Makale[0]);
+        this.graph = CitationGraph.build(ids, makaleler);
 
-        for (Makale m : makaleler) {
-            makaleMap.put(m.getId(), m);
+        calculateAllCitationCounts();
+        event.end();
+        if (event.shouldCommit()) {
+            event.corpusSize = graph.nodeCount();
+            event.edges = graph.edgeCount();
+            event.commit();
         }
+        Metrics.stop("algorithms.index", t);
+        Metrics.record("algorithms.index.nodes", graph.nodeCount());
+        Metrics.record("algorithms.index.edges", graph.edgeCount());
+    }
 
-        calculateAllCitationCounts();
+    public List<Makale> getMakaleler() {
+        return makaleler;
+    }
+
+    public IdDictionary getIds() {
+        return ids;
+    }
+
+    public CitationGraph getGraph() {
+        return graph;
     }
 
     /**
-     * Tüm makalelerin kaç kez referans ALDIĞINI (In-Degree) hesaplar.
+     * Tüm makalelerin atıf sayısı / h-index / h-median tablosu.
+     * İlk çağrıda tek paralel geçişte hesaplanır, sonra önbellekten döner.
      */
-    private void calculateAllCitationCounts() {
-        for (Makale m : makaleler) {
-            m.setCitationCount(0);
-        }
-
-        for (Makale m : makaleler) {
-            for (String refId : m.getReferencedWorkIds()) {
-                Makale atifAlan = makaleMap.get(refId);
-                if (atifAlan != null) {
-                    atifAlan.incrementCitationCount();
+    public BibliometricTable getBibliometrics() {
+        BibliometricTable t = bibliometrics;
+        if (t == null) {
+            synchronized (this) {
+                t = bibliometrics;
+                if (t == null) {
+                    t = BibliometricTable.compute(this);
+                    bibliometrics = t;
                 }
             }
         }
+        return t;
+    }
+
+    /** Tablo hesaplandıysa döndürür, aksi halde beklemeden null döner. */
+    public BibliometricTable getBibliometricsIfReady() {
+        return bibliometrics;
+    }
+
+    /**
+     * Tüm makalelerin kaç kez referans ALDIĞINI (In-Degree) hesaplar.
+     *
+     * Sayım CSR geri indeksinden gelir, yani atıf yapan makale başına en fazla bir kez sayılır:
+     * bir makalenin referans listesinde aynı id birden fazla geçiyorsa eski sürüm her tekrarı ayrı
+     * sayıyordu, artık tek atıftır. Korpus dışı referanslar yine sayılmaz, kendine atıf yine sayılır.
+     * Böylece atıf sayısı h-index, h-core ve k-core'un gördüğü graf ile tutarlıdır.
+     */
+    private void calculateAllCitationCounts() {
+        // Aynı id birden fazla kez varsa atıflar sözlükteki (son) kayda yazılır
+        for (int i = 0; i < byIndex.length; i++) byIndex[i].setCitationCount(graph.inDegree(i));
     }
 
     /**
      * H-Index hesaplar.
+     * Atıf yapanlar geri (cited-by) indeksten okunur; maliyet makalenin in-degree'si kadardır.
      */
     public int calculateHIndex(String targetId) {
-        List<Integer> citationCountsOfCiters = new ArrayList<>();
+        int target = ids.indexOf(targetId);
+        if (target == IdDictionary.MISSING) return 0;
+        return calculateHIndex(target);
+    }
 
-        for (Makale m : makaleler) {
-            if (m.getReferencedWorkIds().contains(targetId)) {
-                citationCountsOfCiters.add(m.getCitationCount());
-            }
+    public int calculateHIndex(int target) {
+        long t = Metrics.start();
+        HIndexEvent event = new HIndexEvent();
+        event.begin();
+        int h = hIndexOf(target);
+        event.end();
+        Metrics.record("algorithms.hIndex.citers", graph.inDegree(target));
+        if (event.shouldCommit()) {
+            event.metric = "h-index";
+            event.paperIndex = target;
+            event.citers = graph.inDegree(target);
+            event.result = h;
+            event.commit();
         }
+        Metrics.stop("algorithms.hIndex", t);
+        return h;
+    }
 
-        Collections.sort(citationCountsOfCiters, Collections.reverseOrder());
-
-        int hIndex = 0;
-        for (int i = 0; i < citationCountsOfCiters.size(); i++) {
-            if (citationCountsOfCiters.get(i) >= (i + 1)) {
-                hIndex = i + 1;
-            } else {
-                break;
-            }
+    /** Ölçümsüz h-index; toplu tablo doldurması bunu çağırır (her makale için metrik/olay üretilmez). */
+    int hIndexOf(int target) {
+        int[] bwdOffsets = graph.backwardOffsets();
+        int[] bwdTargets = graph.backwardTargets();
+        int from = bwdOffsets[target];
+        int size = bwdOffsets[target + 1] - from;
+
+        // Sayma (bucket) ile O(d): atıf sayıları d'de kırpılarak sayılır, büyükten küçüğe taranır
+        int[] buckets = new int[size + 1];
+        for (int k = from; k < from + size; k++) {
+            buckets[Math.min(size, graph.inDegree(bwdTargets[k]))]++;
+        }
+        int atLeast = 0;
+        for (int h = size; h > 0; h--) {
+            atLeast += buckets[h];
+            if (atLeast >= h) return h;
         }
-        return hIndex;
+        return 0;
     }
 
     /**
@@ -66,23 +142,40 @@ public class GraphAlgorithms {
      */
     public List<Makale> getHCore(String targetId) {
         List<Makale> hCoreList = new ArrayList<>();
-        int hIndex = calculateHIndex(targetId);
+        int target = ids.indexOf(targetId);
+        if (target == IdDictionary.MISSING) return hCoreList;
 
-        List<Makale> citers = new ArrayList<>();
-        for (Makale m : makaleler) {
-            if (m.getReferencedWorkIds().contains(targetId)) {
-                citers.add(m);
-            }
-        }
+        for (int i : hCoreIndexes(target)) hCoreList.add(byIndex[i]);
+        return hCoreList;
+    }
 
-        citers.sort((m1, m2) ->
-                Integer.compare(m2.getCitationCount(), m1.getCitationCount()));
+    /**
+     * h-core üyelerinin indeksleri: atıf sayısına göre azalan (eşitlikte korpus sırası) ilk h atıf yapan.
+     */
+    public int[] hCoreIndexes(int target) {
+        int[] citers = citersByCitationCount(target);
+        int h = 0;
+        while (h < citers.length && graph.inDegree(citers[h]) >= h + 1) h++;
+        return Arrays.copyOf(citers, h);
+    }
 
-        for (int i = 0; i < hIndex && i < citers.size(); i++) {
-            hCoreList.add(citers.get(i));
+    // Atıf yapanları atıf sayısına göre azalan, eşitlikte artan indeks sırasıyla döndürür
+    private int[] citersByCitationCount(int target) {
+        int[] bwdOffsets = graph.backwardOffsets();
+        int[] bwdTargets = graph.backwardTargets();
+        int from = bwdOffsets[target];
+        int size = bwdOffsets[target + 1] - from;
+
+        long[] keys = new long[size];
+        for (int k = 0; k < size; k++) {
+            int citer = bwdTargets[from + k];
+            keys[k] = ((long) (Integer.MAX_VALUE - graph.inDegree(citer)) << 32) | citer;
         }
+        Arrays.sort(keys);
 
-        return hCoreList;
+        int[] citers = new int[size];
+        for (int k = 0; k < size; k++) citers[k] = (int) keys[k];
+        return citers;
     }
 
     /**
@@ -91,244 +184,366 @@ public class GraphAlgorithms {
      * h-core içindeki makalelerin atıf sayılarının ortanca (median) değeri.
      */
     public int calculateHMedian(String targetId) {
-        List<Makale> hCore = getHCore(targetId);
-
-        if (hCore.isEmpty()) return 0;
+        int target = ids.indexOf(targetId);
+        if (target == IdDictionary.MISSING) return 0;
+        return calculateHMedian(target);
+    }
 
-        List<Integer> citationCounts = new ArrayList<>();
-        for (Makale m : hCore) {
-            citationCounts.add(m.getCitationCount());
+    public int calculateHMedian(int target) {
+        long t = Metrics.start();
+        HIndexEvent event = new HIndexEvent();
+        event.begin();
+        int median = hMedianOf(target);
+        event.end();
+        if (event.shouldCommit()) {
+            event.metric = "h-median";
+            event.paperIndex = target;
+            event.citers = graph.inDegree(target);
+            event.result = median;
+            event.commit();
         }
+        Metrics.stop("algorithms.hMedian", t);
+        return median;
+    }
 
-        Collections.sort(citationCounts);
+    /** Ölçümsüz h-median; bkz. {@link #hIndexOf(int)}. */
+    int hMedianOf(int target) {
+        // h-core atıf sayısına göre zaten sıralı (azalan); ortanca doğrudan okunur
+        int[] hCore = hCoreIndexes(target);
+        int size = hCore.length;
+        if (size == 0) return 0;
 
-        int size = citationCounts.size();
         if (size % 2 == 1) {
-            return citationCounts.get(size / 2);
+            return graph.inDegree(hCore[size / 2]);
         } else {
-            int mid1 = citationCounts.get(size / 2 - 1);
-            int mid2 = citationCounts.get(size / 2);
+            int mid1 = graph.inDegree(hCore[size / 2 - 1]);
+            int mid2 = graph.inDegree(hCore[size / 2]);
             return (mid1 + mid2) / 2;
         }
     }
 
     public Makale getMakale(String id) {
-        return makaleMap.get(id);
+        int i = ids.indexOf(id);
+        return i == IdDictionary.MISSING ? null : byIndex[i];
+    }
+
+    public Makale getMakale(int index) {
+        return byIndex[index];
     }
 
     // ---------------- BETWEENNESS CENTRALITY ----------------
 
     public Map<String, Double> calculateBetweennessCentrality() {
-        Map<String, List<String>> adjList = new HashMap<>();
-
-        for (Makale m : makaleler) {
-            adjList.putIfAbsent(m.getId(), new ArrayList<>());
-            for (String refId : m.getReferencedWorkIds()) {
-                if (makaleMap.containsKey(refId)) {
-                    adjList.putIfAbsent(refId, new ArrayList<>());
-                    if (!adjList.get(m.getId()).contains(refId)) adjList.get(m.getId()).add(refId);
-                    if (!adjList.get(refId).contains(m.getId())) adjList.get(refId).add(m.getId());
-                }
-            }
+        long started = Metrics.start();
+        BetweennessEvent event = new BetweennessEvent();
+        event.begin();
+        UndirectedView view = graph.undirected();
+        int n = view.size();
+        Metrics.record("algorithms.betweenness.naive.nodes", n);
+
+        int[][] allDistances = new int[n][];
+        for (int s = 0; s < n; s++) {
+            allDistances[s] = runBFS(s, view);
         }
 
-        Map<String, Map<String, Integer>> allDistances = new HashMap<>();
-        List<String> nodeIds = new ArrayList<>(makaleMap.keySet());
+        double[] centrality = new double[n];
 
-        for (String id : nodeIds) {
-            allDistances.put(id, runBFS(id, adjList));
-        }
+        for (int s = 0; s < n; s++) {
+            for (int t = s + 1; t < n; t++) {
+                int distST = allDistances[s][t];
+                if (distST < 0) continue;
 
-        Map<String, Double> centralityScores = new HashMap<>();
-        for (String id : nodeIds) centralityScores.put(id, 0.0);
+                for (int v = 0; v < n; v++) {
+                    if (v == s || v == t) continue;
 
-        for (int i = 0; i < nodeIds.size(); i++) {
-            for (int j = i + 1; j < nodeIds.size(); j++) {
-                String s = nodeIds.get(i);
-                String t = nodeIds.get(j);
-
-                if (allDistances.get(s).containsKey(t)) {
-                    int distST = allDistances.get(s).get(t);
-
-                    for (String v : nodeIds) {
-                        if (v.equals(s) || v.equals(t)) continue;
-
-                        if (allDistances.get(s).containsKey(v) &&
-                                allDistances.get(v).containsKey(t)) {
-
-                            int distSV = allDistances.get(s).get(v);
-                            int distVT = allDistances.get(v).get(t);
-
-                            if (distSV + distVT == distST) {
-                                centralityScores.put(v,
-                                        centralityScores.get(v) + 1.0);
-                            }
-                        }
+                    int distSV = allDistances[s][v];
+                    int distVT = allDistances[v][t];
+                    if (distSV >= 0 && distVT >= 0 && distSV + distVT == distST) {
+                        centrality[v] += 1.0;
                     }
                 }
             }
         }
+
+        Map<String, Double> centralityScores = new HashMap<>();
+        for (int v = 0; v < n; v++) centralityScores.put(ids.idOf(view.nodes[v]), centrality[v]);
+        event.end();
+        if (event.shouldCommit()) {
+            event.algorithm = "naive";
+            event.corpusSize = ids.size();
+            event.subsetSize = n;
+            event.edges = view.targets.length / 2;
+            event.samples = n;
+            event.resultSize = centralityScores.size();
+            event.commit();
+        }
+        Metrics.stop("algorithms.betweenness.naive", started);
         return centralityScores;
     }
 
     // ✅ Daha hızlı: Brandes (unweighted, undirected gibi)
     public Map<String, Double> calculateBetweennessCentralityBrandes(Set<String> nodeSubset) {
+        return calculateBetweennessCentralityBrandes(nodeSubset, null, null);
+    }
 
-        // Subset null/empty ise tüm node'lar
-        Set<String> nodes = (nodeSubset == null || nodeSubset.isEmpty())
-                ? new HashSet<>(makaleMap.keySet())
-                : new HashSet<>(nodeSubset);
-
-        // Adjacency (senin mevcut yaklaşımın gibi UNDIRECTED kuruyoruz)
-        Map<String, List<String>> adj = new HashMap<>();
-        for (String id : nodes) adj.put(id, new ArrayList<>());
-
-        for (String id : nodes) {
-            Makale m = makaleMap.get(id);
-            if (m == null || m.getReferencedWorkIds() == null) continue;
-
-            for (String ref : m.getReferencedWorkIds()) {
-                if (!nodes.contains(ref)) continue;
-
-                // duplicate engelle
-                List<String> a = adj.get(id);
-                if (!a.contains(ref)) a.add(ref);
-
-                List<String> b = adj.get(ref);
-                if (!b.contains(id)) b.add(id);
+    /**
+     * Brandes betweenness; onProgress verilirse kaynaklar turlar halinde işlenir ve her turdan sonra
+     * o ana kadarki (tam ölçeğe genişletilmiş) skorlar bildirilir. Kaynak sayısı örnek sayısı olarak
+     * raporlanır, son bildirim tam sonuçtur. cancelled true dönerse hesap kısa sürede durur ve null döner.
+     */
+    public Map<String, Double> calculateBetweennessCentralityBrandes(Set<String> nodeSubset,
+                                                                    Consumer<BetweennessEstimate> onProgress,
+                                                                    BooleanSupplier cancelled) {
+        long t = Metrics.start();
+        BetweennessEvent event = new BetweennessEvent();
+        event.begin();
+
+        // Subset null/empty ise tüm node'lar; korpusta olmayan id'ler sadece 0 skor alır
+        List<String> unknown = new ArrayList<>();
+        UndirectedView view;
+        if (nodeSubset == null || nodeSubset.isEmpty()) {
+            view = graph.undirected();
+        } else {
+            int[] nodes = new int[nodeSubset.size()];
+            int m = 0;
+            for (String id : nodeSubset) {
+                int i = ids.indexOf(id);
+                if (i == IdDictionary.MISSING) unknown.add(id);
+                else nodes[m++] = i;
             }
+            view = graph.undirected(Arrays.copyOf(nodes, m));
+        }
+
+        // Kaynaklar ForkJoin işçilerine dağıtılır (bkz. ParallelBrandes); sonuç zaten 2'ye bölünmüş
+        // Ara skorlar alt küme indeksli yayınlanır (korpus boyutunda dizi ayrılmaz)
+        ParallelBrandes.ProgressListener listener = onProgress == null ? null : (done, total, local) ->
+                onProgress.accept(new BetweennessEstimate(ids, view, local, done, total));
+        Metrics.record("algorithms.betweenness.brandes.nodes", view.size());
+        Metrics.record("algorithms.betweenness.brandes.edges", view.targets.length / 2);
+        double[] cb = new ParallelBrandes(view).run(listener, cancelled);
+        event.end();
+        if (event.shouldCommit()) {
+            event.algorithm = "brandes";
+            event.corpusSize = ids.size();
+            event.subsetSize = view.size();
+            event.edges = view.targets.length / 2;
+            event.samples = cb == null ? 0 : view.size();
+            event.resultSize = cb == null ? 0 : cb.length + unknown.size();
+            event.cancelled = cb == null;
+            event.commit();
+        }
+        if (cb == null) {
+            Metrics.count("algorithms.betweenness.brandes.cancelled");
+            return null;
         }
 
         Map<String, Double> CB = new HashMap<>();
-        for (String v : nodes) CB.put(v, 0.0);
-
-        for (String s : nodes) {
-            Deque<String> S = new ArrayDeque<>();
-            Map<String, List<String>> P = new HashMap<>();
-            Map<String, Integer> dist = new HashMap<>();
-            Map<String, Double> sigma = new HashMap<>();
-
-            for (String v : nodes) {
-                P.put(v, new ArrayList<>());
-                dist.put(v, -1);
-                sigma.put(v, 0.0);
-            }
+        for (int v = 0; v < cb.length; v++) CB.put(ids.idOf(view.nodes[v]), cb[v]);
+        for (String id : unknown) CB.put(id, 0.0);
 
-            dist.put(s, 0);
-            sigma.put(s, 1.0);
+        Metrics.stop("algorithms.betweenness.brandes", t);
+        return CB;
+    }
 
-            ArrayDeque<String> Q = new ArrayDeque<>();
-            Q.add(s);
+    /**
+     * Tüm korpus için tam Brandes betweenness; sonuç global indeksli ilkel dizide tutulur
+     * (id başına Map girdisi oluşturulmaz). Toplu analiz gibi bütün skorların gerektiği yerler için.
+     */
+    public BetweennessEstimate exactBetweenness() {
+        long t = Metrics.start();
+        BetweennessEvent event = new BetweennessEvent();
+        event.begin();
+        UndirectedView view = graph.undirected();
+        double[] local = new ParallelBrandes(view).run();
+        double[] global = new double[ids.size()];
+        for (int v = 0; v < local.length; v++) global[view.nodes[v]] = local[v];
+        event.end();
+        if (event.shouldCommit()) {
+            event.algorithm = "exact";
+            event.corpusSize = ids.size();
+            event.subsetSize = view.size();
+            event.edges = view.targets.length / 2;
+            event.samples = view.size();
+            event.resultSize = global.length;
+            event.commit();
+        }
+        Metrics.stop("algorithms.betweenness.exact", t);
+        return new BetweennessEstimate(ids, global, view.size(), view.size());
+    }
 
-            while (!Q.isEmpty()) {
-                String v = Q.poll();
-                S.push(v);
+    /**
+     * Tüm korpus için yaklaşık betweenness (kaynak/yol örnekleme, Riondato–Kornaropoulos).
+     * Normalize skorlar 1 − δ olasılıkla en fazla ε hatalıdır; dönen skorlar Brandes ölçeğindedir.
+     * onProgress her örnek partisinden sonra güncel tahminle çağrılır (null olabilir);
+     * çağıran iş parçacığı kesilirse son tahmin döndürülür.
+     */
+    public BetweennessEstimate approximateBetweenness(double epsilon, double delta, long seed,
+                                                      Consumer<BetweennessEstimate> onProgress) {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon ve delta (0, 1) aralığında olmalı");
+        }
+        long t = Metrics.start();
+        BetweennessEvent event = new BetweennessEvent();
+        event.begin();
+        UndirectedView view = graph.undirected();
+        BetweennessEstimate estimate = new ApproximateBetweenness(view, ids).run(epsilon, delta, seed, onProgress);
+        event.end();
+        if (event.shouldCommit()) {
+            event.algorithm = "approx";
+            event.corpusSize = ids.size();
+            event.subsetSize = view.size();
+            event.edges = view.targets.length / 2;
+            event.samples = estimate.getSamplesDone();
+            event.resultSize = ids.size();
+            event.cancelled = !estimate.isFinal();
+            event.commit();
+        }
+        Metrics.stop("algorithms.betweenness.approx", t);
+        Metrics.record("algorithms.betweenness.approx.samples", estimate.getSamplesDone());
+        return estimate;
+    }
 
-                for (String w : adj.getOrDefault(v, List.of())) {
-                    if (dist.get(w) == -1) {
-                        dist.put(w, dist.get(v) + 1);
-                        Q.add(w);
-                    }
-                    if (dist.get(w) == dist.get(v) + 1) {
-                        sigma.put(w, sigma.get(w) + sigma.get(v));
-                        P.get(w).add(v);
-                    }
+    private int[] runBFS(int startNode, UndirectedView view) {
+        int n = view.size();
+        int[] distances = new int[n];
+        Arrays.fill(distances, -1);
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+
+        distances[startNode] = 0;
+        queue[tail++] = startNode;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int currentDist = distances[current];
+
+            for (int k = view.offsets[current]; k < view.offsets[current + 1]; k++) {
+                int neighbor = view.targets[k];
+                if (distances[neighbor] == -1) {
+                    distances[neighbor] = currentDist + 1;
+                    queue[tail++] = neighbor;
                 }
             }
+        }
+        return distances;
+    }
 
-            Map<String, Double> delta = new HashMap<>();
-            for (String v : nodes) delta.put(v, 0.0);
+    // ---------------- K-CORE ----------------
 
-            while (!S.isEmpty()) {
-                String w = S.pop();
-                for (String v : P.get(w)) {
-                    double c = (sigma.get(v) / sigma.get(w)) * (1.0 + delta.get(w));
-                    delta.put(v, delta.get(v) + c);
-                }
-                if (!w.equals(s)) {
-                    CB.put(w, CB.get(w) + delta.get(w));
-                }
+    /**
+     * k-core: çekirdek numarası k veya üzeri olan makaleler (korpus sırasıyla).
+     * Çekirdek numaraları bir kez hesaplanıp önbelleğe alındığı için her k sorgusu O(V) bir filtredir.
+     */
+    public List<Makale> runKCoreDecomposition(int k) {
+        long t = Metrics.start();
+        KCoreEvent event = new KCoreEvent();
+        event.begin();
+        boolean coldStart = coreNumbers == null;
+        int[] core = getCoreNumbers();
+
+        List<Makale> result = new ArrayList<>();
+        for (int id = 0; id < core.length; id++) {
+            if (core[id] >= k) {
+                result.add(byIndex[id]);
             }
         }
-
-        // Undirected kurduğun için 2'ye böl
-        for (String v : nodes) CB.put(v, CB.get(v) / 2.0);
-
-        return CB;
+        event.end();
+        if (event.shouldCommit()) {
+            event.corpusSize = core.length;
+            event.k = k;
+            event.coldStart = coldStart;
+            event.resultSize = result.size();
+            event.commit();
+        }
+        Metrics.stop("algorithms.kcore", t);
+        Metrics.record("algorithms.kcore.result", result.size());
+        return result;
     }
 
-    private Map<String, Integer> runBFS(String startNode,
-                                        Map<String, List<String>> adjList) {
-        Map<String, Integer> distances = new HashMap<>();
-        Queue<String> queue = new LinkedList<>();
-
-        distances.put(startNode, 0);
-        queue.add(startNode);
+    /** Makalenin çekirdek numarası (içinde bulunduğu en büyük k-core'un k'sı). */
+    public int getCoreNumber(int index) {
+        return getCoreNumbers()[index];
+    }
 
-        while (!queue.isEmpty()) {
-            String current = queue.poll();
-            int currentDist = distances.get(current);
+    /** Grafın dejenereliği: en büyük çekirdek numarası (boş korpus için 0). */
+    public int getMaxCore() {
+        int max = 0;
+        for (int c : getCoreNumbers()) max = Math.max(max, c);
+        return max;
+    }
 
-            if (adjList.containsKey(current)) {
-                for (String neighbor : adjList.get(current)) {
-                    if (!distances.containsKey(neighbor)) {
-                        distances.put(neighbor, currentDist + 1);
-                        queue.add(neighbor);
-                    }
+    private int[] getCoreNumbers() {
+        int[] core = coreNumbers;
+        if (core == null) {
+            synchronized (this) {
+                core = coreNumbers;
+                if (core == null) {
+                    long t = Metrics.start();
+                    core = computeCoreNumbers();
+                    Metrics.stop("algorithms.coreNumbers", t);
+                    coreNumbers = core;
                 }
             }
         }
-        return distances;
+        return core;
     }
 
-    // ---------------- K-CORE ----------------
-
-    public List<Makale> runKCoreDecomposition(int k) {
-        Map<String, Integer> currentDegrees = new HashMap<>();
-        Map<String, List<String>> adjList = new HashMap<>();
-
-        for (Makale m : makaleler) {
-            adjList.putIfAbsent(m.getId(), new ArrayList<>());
-            for (String refId : m.getReferencedWorkIds()) {
-                if (makaleMap.containsKey(refId)) {
-                    adjList.get(m.getId()).add(refId);
-                    adjList.putIfAbsent(refId, new ArrayList<>());
-                    adjList.get(refId).add(m.getId());
-                }
-            }
+    /**
+     * Batagelj–Zaversnik kova (bucket) tabanlı çekirdek ayrıştırması, O(V + E).
+     * Düğümler dereceye göre kovalarda tutulur; en küçük dereceli düğüm çıkarılırken
+     * daha büyük dereceli komşuları bir alt kovaya sabit zamanda taşınır.
+     */
+    private int[] computeCoreNumbers() {
+        int n = graph.nodeCount();
+        int[] offsets = graph.undirectedOffsets();
+        int[] targets = graph.undirectedTargets();
+
+        int[] deg = new int[n];
+        int maxDeg = 0;
+        for (int v = 0; v < n; v++) {
+            deg[v] = graph.degree(v);
+            maxDeg = Math.max(maxDeg, deg[v]);
         }
 
-        for (String id : makaleMap.keySet()) {
-            currentDegrees.put(id,
-                    adjList.containsKey(id) ? adjList.get(id).size() : 0);
+        // bin[d]: d dereceli kovanın vert içindeki başlangıcı
+        int[] bin = new int[maxDeg + 1];
+        for (int v = 0; v < n; v++) bin[deg[v]]++;
+        int start = 0;
+        for (int d = 0; d <= maxDeg; d++) {
+            int count = bin[d];
+            bin[d] = start;
+            start += count;
         }
 
-        boolean changed = true;
-        Set<String> removed = new HashSet<>();
-
-        while (changed) {
-            changed = false;
-            for (String id : makaleMap.keySet()) {
-                if (removed.contains(id)) continue;
-                if (currentDegrees.get(id) < k) {
-                    removed.add(id);
-                    changed = true;
-                    for (String nb : adjList.getOrDefault(id, List.of())) {
-                        if (!removed.contains(nb)) {
-                            currentDegrees.put(nb,
-                                    currentDegrees.get(nb) - 1);
-                        }
+        int[] vert = new int[n];
+        int[] pos = new int[n];
+        for (int v = 0; v < n; v++) {
+            pos[v] = bin[deg[v]]++;
+            vert[pos[v]] = v;
+        }
+        for (int d = maxDeg; d > 0; d--) bin[d] = bin[d - 1];
+        bin[0] = 0;
+
+        for (int i = 0; i < n; i++) {
+            int v = vert[i];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int u = targets[e];
+                if (deg[u] > deg[v]) {
+                    int du = deg[u];
+                    int pu = pos[u];
+                    int pw = bin[du];
+                    int w = vert[pw];
+                    if (u != w) {
+                        pos[u] = pw;
+                        vert[pu] = w;
+                        pos[w] = pu;
+                        vert[pw] = u;
                     }
+                    bin[du]++;
+                    deg[u]--;
                 }
             }
         }
-
-        List<Makale> result = new ArrayList<>();
-        for (String id : makaleMap.keySet()) {
-            if (!removed.contains(id)) {
-                result.add(makaleMap.get(id));
-            }
-        }
-        return result;
+        return deg;
     }
 }
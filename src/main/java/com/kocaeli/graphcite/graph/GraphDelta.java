@@ -0,0 +1,98 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.IdDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GraphStream grafına tek seferde uygulanacak değişiklik kümesi:
+ * eklenecek düğümler, eklenecek yönlü (siyah) kenarlar ve düğüm sınıfı (ui.class) değişiklikleri.
+ * Aynı düğüm için birden fazla sınıf değişikliği verilirse sadece sonuncusu uygulanır.
+ * Bkz. {@link GraphManager#applyDelta(GraphDelta)}.
+ */
+public class GraphDelta {
+
+    /** Yönlü kenar: from -> to (from, to'ya atıf yapar). */
+    public static final class Link {
+        private final String from;
+        private final String to;
+
+        public Link(String from, String to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        public String getFrom() { return from; }
+        public String getTo() { return to; }
+    }
+
+    private final List<String> nodesToAdd = new ArrayList<>();
+    private final List<Link> edgesToAdd = new ArrayList<>();
+    private final Map<String, String> classChanges = new LinkedHashMap<>();
+
+    public void addNode(String id) {
+        nodesToAdd.add(id);
+    }
+
+    public void addEdge(String from, String to) {
+        edgesToAdd.add(new Link(from, to));
+    }
+
+    /** Düğümün ui.class değerini ayarlar; cls null ise sınıf kaldırılır. */
+    public void setNodeClass(String id, String cls) {
+        classChanges.put(id, cls);
+    }
+
+    public List<String> getNodesToAdd() { return nodesToAdd; }
+    public List<Link> getEdgesToAdd() { return edgesToAdd; }
+    public Map<String, String> getClassChanges() { return classChanges; }
+
+    /**
+     * Grafa yeni eklenen düğümler için delta üretir. present, grafta zaten bulunan düğümlerin
+     * indeksleridir ve yerinde güncellenir. Sadece yeni düğümlerin kenarlarına bakılır:
+     * yeni düğümün referansları (grafta olan veya yeni eklenen hedefler) ve ona atıf yapan eski düğümler.
+     * Böylece maliyet, grafın boyutuna değil eklenen düğümlerin derecesine bağlıdır.
+     */
+    public static GraphDelta forExpansion(GraphAlgorithms algorithms, BitSet present, int[] indexes) {
+        GraphDelta delta = new GraphDelta();
+        IdDictionary ids = algorithms.getIds();
+        CitationGraph g = algorithms.getGraph();
+
+        int[] added = new int[indexes.length];
+        int count = 0;
+        for (int v : indexes) {
+            if (v < 0 || present.get(v)) continue;
+            present.set(v);
+            added[count++] = v;
+            delta.addNode(ids.idOf(v));
+        }
+        added = Arrays.copyOf(added, count);
+        int[] sortedAdded = added.clone();
+        Arrays.sort(sortedAdded);
+
+        int[] fo = g.forwardOffsets(), ft = g.forwardTargets();
+        int[] bo = g.backwardOffsets(), bt = g.backwardTargets();
+        for (int v : added) {
+            String id = ids.idOf(v);
+            for (int k = fo[v]; k < fo[v + 1]; k++) {
+                int t = ft[k];
+                if (present.get(t)) delta.addEdge(id, ids.idOf(t));
+            }
+            // Yeni düğümler arasındaki kenarlar yukarıda atıf yapan tarafta eklendi
+            for (int k = bo[v]; k < bo[v + 1]; k++) {
+                int c = bt[k];
+                if (present.get(c) && Arrays.binarySearch(sortedAdded, c) < 0) delta.addEdge(ids.idOf(c), id);
+            }
+        }
+        return delta;
+    }
+
+    public boolean isEmpty() {
+        return nodesToAdd.isEmpty() && edgesToAdd.isEmpty() && classChanges.isEmpty();
+    }
+}
@@ -1,10 +1,14 @@
 package com.kocaeli.graphcite.graph;
 
+import com.kocaeli.graphcite.metrics.GraphMutationEvent;
+import com.kocaeli.graphcite.metrics.Metrics;
+import com.kocaeli.graphcite.model.IdDictionary;
 import com.kocaeli.graphcite.model.Makale;
 import org.graphstream.graph.Edge;
 import org.graphstream.graph.Graph;
 import org.graphstream.graph.Node;
 import org.graphstream.graph.implementations.SingleGraph;
+import org.graphstream.stream.SinkAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,6 +20,16 @@ public class GraphManager {
 
     private final Graph graph;
     private final List<Makale> data;
+    // Graftaki düğümler sayısal ID sırasıyla; yeşil zincir bu sırayı izler
+    private final TreeSet<TimelineKey> timeline = new TreeSet<>();
+    // Yönetici dışında silinen düğümlerin zincirde bıraktığı boşluklar; rebuildTimelineEdges kapatır
+    private final List<TimelineKey> timelineGaps = new ArrayList<>();
+    // Çevrimdışı yerleşim (ForceLayout); yoksa null
+    private IdDictionary layoutIds;
+    private float[] layout;
+    // Uzaklaştırılmış görünümdeki özet (meta) düğümler; zaman çizelgesine katılmaz
+    private final Set<String> metaNodes = new HashSet<>();
+    static final String META_PREFIX = "meta:";
 
     public GraphManager(List<Makale> makaleler) {
         this.data = makaleler == null ? Collections.emptyList() : makaleler;
@@ -26,10 +40,37 @@ public class GraphManager {
         );
 
         graph = new SingleGraph("CitationGraph");
+
+        // Silinen düğüm (kim silerse silsin) zincirden hemen çıkarılır; aksi halde boyut karşılaştırması
+        // bir silme + bir ekleme sonrası zinciri doğru sanır. Kenar onarımı olay içinde değil,
+        // rebuildTimelineEdges'te yapılır (GraphStream olay dağıtımı sırasında graf değiştirilmez).
+        graph.addSink(new SinkAdapter() {
+            @Override
+            public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+                synchronized (graph) {
+                    if (metaNodes.contains(nodeId)) return;
+                    TimelineKey key = new TimelineKey(nodeId);
+                    if (timeline.remove(key)) timelineGaps.add(key);
+                }
+            }
+
+            @Override
+            public void graphCleared(String sourceId, long timeId) {
+                synchronized (graph) {
+                    timeline.clear();
+                    timelineGaps.clear();
+                }
+            }
+        });
     }
 
     public Graph createGraph() {
-        graph.clear();
+        synchronized (graph) {
+            graph.clear();
+            timeline.clear();
+            timelineGaps.clear();
+            metaNodes.clear();
+        }
 
         graph.setAttribute("ui.stylesheet", """
 graph { padding: 60px; fill-color: #f8fafc; }
@@ -51,6 +92,7 @@ node.hcore { fill-color: #ef4444; size: 18px; }
 node.newlyAdded { fill-color: #22c55e; size: 16px; }
 node.betweenness { fill-color: #a855f7; size: 18px; stroke-mode: plain; stroke-color: #581c87; }
 node.kcore { fill-color: #f97316; size: 16px; stroke-mode: plain; stroke-color: #9a3412; }
+node.boxSelected { fill-color: #14b8a6; size: 15px; stroke-mode: plain; stroke-color: #115e59; }
 
 edge { fill-color: #64748b; size: 1px; arrow-size: 8px,4px; }
 edge.blackEdge { fill-color: #64748b; size: 1px; arrow-size: 8px,4px; }
@@ -59,6 +101,17 @@ edge.timelineEdge { fill-color: #10b981; size: 1px; arrow-size: 8px,4px; }
 
 edge.kcoreEdge { fill-color: #f97316; size: 2px; arrow-size: 9px,5px; }
 
+node.meta {
+  visibility-mode: normal;
+  size-mode: dyn-size;
+  fill-color: #0ea5e9;
+  stroke-mode: plain;
+  stroke-color: #075985;
+  text-size: 12px;
+  text-style: bold;
+}
+edge.metaEdge { visibility-mode: normal; size-mode: dyn-size; fill-color: rgba(100,116,139,160); arrow-size: 0px, 0px; }
+
 sprite.hoverCard {
   text-size: 12;
   text-color: white;
@@ -86,35 +139,65 @@ sprite.hoverCard {
         if (id.isEmpty()) return;
 
         synchronized (graph) {
-            Node n = graph.getNode(id);
+            addNodeLocked(id);
+        }
+    }
 
-            // Node yoksa ekle
-            if (n == null) {
-                try {
-                    n = graph.addNode(id);
-                    n.setAttribute("citationCount", 0);
-                } catch (Exception e) {
-                    logger.debug("ensureNode addNode hata: id={}", id, e);
-                    return;
-                }
-            }
+    /** graph kilidi tutulurken çağrılır. */
+    private void addNodeLocked(String id) {
+        Node n = graph.getNode(id);
 
-            // ✅ Node varsa bile xyz yoksa ver (kritik!)
+        // Node yoksa ekle
+        if (n == null) {
             try {
-                double[] xyz = n.getAttribute("xyz");
-                if (xyz == null || xyz.length < 2) {
-                    double x = (id.hashCode() % 2000) / 200.0;
-                    double y = ((id.hashCode() / 2000) % 2000) / 200.0;
-                    n.setAttribute("xyz", x, y, 0);
-                }
-            } catch (Exception ex) {
-                double x = (id.hashCode() % 2000) / 200.0;
-                double y = ((id.hashCode() / 2000) % 2000) / 200.0;
-                n.setAttribute("xyz", x, y, 0);
+                n = graph.addNode(id);
+                n.setAttribute("citationCount", 0);
+                spliceTimelineLocked(id);
+                Metrics.count("graph.nodes.added");
+            } catch (Exception e) {
+                logger.debug("ensureNode addNode hata: id={}", id, e);
+                return;
             }
         }
+
+        // ✅ Node varsa bile xyz yoksa ver (kritik!)
+        try {
+            double[] xyz = n.getAttribute("xyz");
+            if (xyz == null || xyz.length < 2) seedPosition(n, id);
+        } catch (Exception ex) {
+            seedPosition(n, id);
+        }
+    }
+
+    /** Başlangıç konumu: çevrimdışı yerleşim varsa oradan, yoksa id'nin hash'inden. */
+    private void seedPosition(Node n, String id) {
+        int i = layout == null ? IdDictionary.MISSING : layoutIds.indexOf(id);
+        if (i != IdDictionary.MISSING) {
+            n.setAttribute("xyz", (double) layout[2 * i], (double) layout[2 * i + 1], 0);
+            return;
+        }
+        double x = (id.hashCode() % 2000) / 200.0;
+        double y = ((id.hashCode() / 2000) % 2000) / 200.0;
+        n.setAttribute("xyz", x, y, 0);
+    }
+
+    /**
+     * Çevrimdışı hesaplanmış yerleşimi (makale indeksi sırasıyla x, y) kullanmaya başlar.
+     * Yeni eklenen düğümler bu konumlardan başlar; grafta zaten bulunan düğümler tek kilitte taşınır.
+     */
+    public void setLayout(IdDictionary ids, float[] xy) {
+        synchronized (graph) {
+            this.layoutIds = ids;
+            this.layout = xy;
+            for (Node n : graph) seedPosition(n, n.getId());
+        }
     }
 
+    public boolean hasLayout() {
+        synchronized (graph) {
+            return layout != null;
+        }
+    }
 
     /**
      * Tek ve kesin ensureDirectedEdge implementasyonu.
@@ -130,22 +213,176 @@ sprite.hoverCard {
         if (from.isEmpty() || to.isEmpty()) return;
 
         synchronized (graph) {
-            try {
-                if (graph.getNode(from) == null || graph.getNode(to) == null) return;
+            addEdgeLocked(from, to);
+        }
+    }
+
+    /** graph kilidi tutulurken çağrılır. */
+    private void addEdgeLocked(String from, String to) {
+        try {
+            if (graph.getNode(from) == null || graph.getNode(to) == null) return;
+
+            String eid = "e_" + sanitizeId(from) + "_" + sanitizeId(to);
+            if (graph.getEdge(eid) != null) return;
+
+            Edge e = graph.addEdge(eid, from, to, true);
+            if (e != null) e.setAttribute("ui.class", "blackEdge");
+            Metrics.count("graph.edges.added");
+        } catch (Exception ex) {
+            logger.debug("ensureDirectedEdge sırasında hata: {} -> {} (exception={})", from, to, ex.toString(), ex);
+        }
+    }
+
+    /**
+     * Önceden hesaplanmış bir değişikliği tek kilitte uygular.
+     * Düğümler, kenarlardan önce eklenir; sınıf değişiklikleri düğüm başına tek olaya indirgenir
+     * ve değer zaten aynıysa hiç olay üretilmez. Böylece viewer'a sadece gerçek farklar gider.
+     */
+    public void applyDelta(GraphDelta delta) {
+        if (delta == null || delta.isEmpty()) return;
 
-                String eid = "e_" + sanitizeId(from) + "_" + sanitizeId(to);
-                if (graph.getEdge(eid) != null) return;
+        long t = Metrics.start();
+        GraphMutationEvent event = new GraphMutationEvent();
+        event.begin();
+        synchronized (graph) {
+            for (String id : delta.getNodesToAdd()) {
+                if (id == null || id.isEmpty()) continue;
+                addNodeLocked(id);
+            }
+
+            for (GraphDelta.Link l : delta.getEdgesToAdd()) {
+                addEdgeLocked(l.getFrom(), l.getTo());
+            }
+
+            for (Map.Entry<String, String> c : delta.getClassChanges().entrySet()) {
+                Node n = graph.getNode(c.getKey());
+                if (n == null) continue;
+                Object current = n.getAttribute("ui.class");
+                String cls = c.getValue();
+                if (cls == null) {
+                    if (current != null) n.removeAttribute("ui.class");
+                } else if (!cls.equals(current)) {
+                    n.setAttribute("ui.class", cls);
+                }
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "applyDelta";
+            event.nodesAdded = delta.getNodesToAdd().size();
+            event.edgesAdded = delta.getEdgesToAdd().size();
+            event.classChanges = delta.getClassChanges().size();
+            event.graphNodes = graph.getNodeCount();
+            event.commit();
+        }
+        Metrics.stop("graph.applyDelta", t);
+        Metrics.record("graph.applyDelta.nodes", delta.getNodesToAdd().size());
+        Metrics.record("graph.applyDelta.edges", delta.getEdgesToAdd().size());
+        Metrics.record("graph.applyDelta.classChanges", delta.getClassChanges().size());
+    }
+
+    /**
+     * Makale düğümlerini ve kenarlarını tek bir stil kuralıyla gizler/gösterir (düğüm başına olay üretmez).
+     * Özet (meta) düğümler ve kenarlar her zaman görünür kalır.
+     */
+    void setDetailHidden(boolean hidden) {
+        String mode = hidden ? "hidden" : "normal";
+        synchronized (graph) {
+            graph.setAttribute("ui.stylesheet",
+                    "node { visibility-mode: " + mode + "; } edge { visibility-mode: " + mode + "; }"
+                            + " node.meta { visibility-mode: normal; } edge.metaEdge { visibility-mode: normal; }");
+        }
+    }
 
-                Edge e = graph.addEdge(eid, from, to, true);
-                if (e != null) e.setAttribute("ui.class", "blackEdge");
+    /** Özet düğümü ekler veya günceller; size piksel cinsinden. */
+    void putMetaNode(String id, double x, double y, double size, String label) {
+        synchronized (graph) {
+            Node n = graph.getNode(id);
+            if (n == null) {
+                // Önce kayda alınır: nodeAdded dinleyicileri düğümü meta olarak tanısın
+                metaNodes.add(id);
+                n = graph.addNode(id);
+                n.setAttribute("ui.class", "meta");
+            }
+            n.setAttribute("xyz", x, y, 0);
+            n.setAttribute("ui.size", size);
+            n.setAttribute("ui.label", label);
+        }
+    }
+
+    /** İki özet düğüm arasındaki toplam atıf kenarı; kalınlık ağırlıkla logaritmik büyür. */
+    void putMetaEdge(String from, String to, int weight) {
+        synchronized (graph) {
+            String eid = META_PREFIX + "e_" + sanitizeId(from) + "_" + sanitizeId(to);
+            Edge e = graph.getEdge(eid);
+            if (e == null) {
+                e = graph.addEdge(eid, from, to, false);
+                e.setAttribute("ui.class", "metaEdge");
+            }
+            e.setAttribute("weight", weight);
+            e.setAttribute("ui.size", 1.0 + Math.log(weight));
+        }
+    }
+
+    /** Tek bir özet düğümü (ve ona bağlı özet kenarları) kaldırır. */
+    void removeMetaNode(String id) {
+        synchronized (graph) {
+            if (!metaNodes.remove(id)) return;
+            try {
+                graph.removeNode(id);
             } catch (Exception ex) {
-                logger.debug("ensureDirectedEdge sırasında hata: {} -> {} (exception={})", from, to, ex.toString(), ex);
+                logger.debug("Meta düğüm silinirken hata: {}", id, ex);
+            }
+        }
+    }
+
+    /** İki özet düğüm arasındaki kenarı kaldırır; uçlar yerinde kalır. */
+    void removeMetaEdge(String from, String to) {
+        synchronized (graph) {
+            String eid = META_PREFIX + "e_" + sanitizeId(from) + "_" + sanitizeId(to);
+            if (graph.getEdge(eid) != null) graph.removeEdge(eid);
+        }
+    }
+
+    /** Tüm özet düğümleri (ve onlara bağlı özet kenarları) kaldırır. */
+    void clearMetaNodes() {
+        synchronized (graph) {
+            for (String id : metaNodes) {
+                try {
+                    graph.removeNode(id);
+                } catch (Exception ex) {
+                    logger.debug("Meta düğüm silinirken hata: {}", id, ex);
+                }
             }
+            metaNodes.clear();
+        }
+    }
+
+    /** Düğüm bir LOD özet düğümü mü (makale değil). */
+    public boolean isMetaNode(String id) {
+        synchronized (graph) {
+            return metaNodes.contains(id);
         }
     }
 
+    int metaNodeCount() {
+        synchronized (graph) {
+            return metaNodes.size();
+        }
+    }
+
+    /**
+     * Yeşil (timeline) zinciri senkronize eder. Düğümler eklenirken zincire zaten yerleştirildiği için
+     * normalde hiçbir şey yapmaz. Dışarıdan silinen düğümlerin boşlukları öncül->ardıl kenarıyla
+     * kapatılır; graf yönetici dışında düğüm eklenerek değiştirildiyse zincir baştan kurulur.
+     */
     public void rebuildTimelineEdges() {
         synchronized (graph) {
+            closeTimelineGapsLocked();
+            if (timeline.size() == graph.getNodeCount() - metaNodes.size()) return;
+            long t = Metrics.start();
+            GraphMutationEvent event = new GraphMutationEvent();
+            event.begin();
             try {
                 // 1. Mevcut yeşil (timeline) kenarları temizle
                 List<Edge> toRemove = new ArrayList<>();
@@ -159,61 +396,115 @@ sprite.hoverCard {
                     }
                 }
 
-                // 2. Graf üzerindeki düğüm ID'lerini al
-                List<String> ids = new ArrayList<>();
-                for (Node n : graph) ids.add(n.getId());
-
-                // --- DEĞİŞİKLİK: Sayısal Sıralama ---
-                // ID'leri içindeki sayısal değere göre sırala (Meryem Hoca'nın uyarısı) [cite: 17, 114]
-                ids.sort((id1, id2) -> {
-                    long n1 = extractNumber(id1);
-                    long n2 = extractNumber(id2);
-                    return Long.compare(n1, n2);
-                });
-                // ------------------------------------
+                // 2. Düğümleri sayısal ID sırasıyla yeniden diz (Meryem Hoca'nın uyarısı) [cite: 17, 114]
+                timeline.clear();
+                for (Node n : graph) {
+                    if (!metaNodes.contains(n.getId())) timeline.add(new TimelineKey(n.getId()));
+                }
 
                 // 3. Sıralı ID'ler arasında yeşil kenar oluştur
-                for (int i = 0; i < ids.size() - 1; i++) {
-                    String a = ids.get(i);
-                    String b = ids.get(i + 1);
-                    String gid = "g_" + sanitizeId(a) + "_" + sanitizeId(b);
-                    if (graph.getEdge(gid) != null) continue;
-
-                    try {
-                        // true -> Yönlü kenar (PDF Şekil 1'e uygun)
-                        Edge ge = graph.addEdge(gid, a, b, true);
-                        if (ge != null) {
-                            ge.setAttribute("ui.class", "timeline");
-                            ge.setAttribute("timeline", true);
-                        }
-                    } catch (Exception ex) {
-                        logger.debug("Timeline edge eklenirken hata: {} <-> {} (gid={})", a, b, gid, ex);
-                    }
+                TimelineKey prev = null;
+                for (TimelineKey k : timeline) {
+                    if (prev != null) addTimelineEdgeLocked(prev.id, k.id);
+                    prev = k;
                 }
             } catch (Exception e) {
                 logger.error("rebuildTimelineEdges sırasında beklenmeyen hata", e);
             }
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = "timelineRebuild";
+                event.edgesAdded = Math.max(0, timeline.size() - 1);
+                event.graphNodes = graph.getNodeCount();
+                event.commit();
+            }
+            Metrics.stop("graph.timeline.rebuild", t);
+            Metrics.record("graph.timeline.rebuild.nodes", timeline.size());
         }
     }
 
-    private String sanitizeId(String id) {
-        if (id == null) return "";
-        return id.replaceAll("[^a-zA-Z0-9_\\-]", "_");
+    /** Silinen her düğümün eski komşularını birbirine bağlar. graph kilidi tutulurken çağrılır. */
+    private void closeTimelineGapsLocked() {
+        for (TimelineKey gap : timelineGaps) {
+            TimelineKey prev = timeline.lower(gap);
+            TimelineKey next = timeline.higher(gap);
+            if (prev != null && next != null) addTimelineEdgeLocked(prev.id, next.id);
+        }
+        timelineGaps.clear();
     }
 
     /**
-     * ID stringinden sayısal değeri çeker.
-     * Örn: "https://openalex.org/W2756105776" -> 2756105776
+     * Yeni düğümü zincirde öncülü ile ardılı arasına yerleştirir: en fazla üç kenar değişir
+     * (öncül->ardıl silinir, öncül->yeni ve yeni->ardıl eklenir). Maliyet O(log n).
+     * graph kilidi tutulurken çağrılır.
      */
-    private long extractNumber(String id) {
-        if (id == null) return 0;
+    private void spliceTimelineLocked(String id) {
+        TimelineKey key = new TimelineKey(id);
+        if (!timeline.add(key)) return;
+
+        TimelineKey prev = timeline.lower(key);
+        TimelineKey next = timeline.higher(key);
+        if (prev != null && next != null) removeTimelineEdgeLocked(prev.id, next.id);
+        if (prev != null) addTimelineEdgeLocked(prev.id, id);
+        if (next != null) addTimelineEdgeLocked(id, next.id);
+    }
+
+    private void addTimelineEdgeLocked(String a, String b) {
+        String gid = "g_" + sanitizeId(a) + "_" + sanitizeId(b);
+        if (graph.getEdge(gid) != null) return;
+
         try {
-            // Sadece rakamları bırak, gerisini sil
-            String numeric = id.replaceAll("[^0-9]", "");
-            if (numeric.isEmpty()) return 0;
-            return Long.parseLong(numeric);
-        } catch (Exception e) {
-            return 0;
+            // true -> Yönlü kenar (PDF Şekil 1'e uygun)
+            Edge ge = graph.addEdge(gid, a, b, true);
+            if (ge != null) {
+                ge.setAttribute("ui.class", "timeline");
+                ge.setAttribute("timeline", true);
+            }
+        } catch (Exception ex) {
+            logger.debug("Timeline edge eklenirken hata: {} <-> {} (gid={})", a, b, gid, ex);
         }
     }
-}
\ No newline at end of file
+
+    private void removeTimelineEdgeLocked(String a, String b) {
+        String gid = "g_" + sanitizeId(a) + "_" + sanitizeId(b);
+        try {
+            if (graph.getEdge(gid) != null) graph.removeEdge(gid);
+        } catch (Exception ex) {
+            logger.debug("Timeline edge silinirken hata: {}", gid, ex);
+        }
+    }
+
+    /** Zincir sırası: ID'deki sayısal değer, eşitlikte ID metni. Sayı bir kez hesaplanır. */
+    private static final class TimelineKey implements Comparable<TimelineKey> {
+        final long number;
+        final String id;
+
+        TimelineKey(String id) {
+            this.id = id;
+            this.number = IdDictionary.numericPart(id);
+        }
+
+        @Override
+        public int compareTo(TimelineKey o) {
+            int c = Long.compare(number, o.number);
+            return c != 0 ? c : id.compareTo(o.id);
+        }
+    }
+
+    private String sanitizeId(String id) {
+        if (id == null) return "";
+        // Regex yerine tek geçişli karakter döngüsü (her kenar id'si için çağrılıyor)
+        int len = id.length();
+        char[] out = null;
+        for (int i = 0; i < len; i++) {
+            char c = id.charAt(i);
+            boolean ok = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '_' || c == '-';
+            if (!ok) {
+                if (out == null) out = id.toCharArray();
+                out[i] = '_';
+            }
+        }
+        return out == null ? id : new String(out);
+    }
+}
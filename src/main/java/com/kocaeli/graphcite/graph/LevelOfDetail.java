@@ -0,0 +1,314 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.IdDictionary;
+import org.graphstream.graph.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.SwingWorker;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Uzaklaştırılmış görünüm için ayrıntı seviyesi (LOD).
+ * Ekranda görünmesi beklenen düğüm sayısı sınırı aşınca makaleler gruplara (yıl veya çekirdek numarası)
+ * toplanır: her grup tek bir özet (meta) düğümle, gruplar arası atıflar toplam ağırlıklı tek kenarla
+ * gösterilir. Makale düğümleri silinmez, tek bir stil kuralıyla gizlenir; yakınlaşınca geri açılır.
+ * Böylece uzak görünümde çizilen eleman sayısı graf boyutundan bağımsız olarak grup sayısıyla sınırlıdır.
+ * Açma/kapama arasında histerezis vardır, sınırda yakınlaştırma titremeye yol açmaz.
+ * EDT'den çağrılmalıdır; grupların hesabı arka planda yapılır.
+ */
+public class LevelOfDetail {
+
+    private static final Logger logger = LoggerFactory.getLogger(LevelOfDetail.class);
+
+    /** Makalelerin hangi özelliğe göre gruplanacağı. */
+    public enum Grouping {
+        YEAR("Yıl"),
+        CORE("Çekirdek");
+
+        private final String label;
+
+        Grouping(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    // Sınırın bu oranının altına inilince açılır (histerezis)
+    private static final double EXPAND_RATIO = 0.7;
+    // Toplu görünümdeyken görünen düğüm sayısı bu oranda değişirse gruplar yeniden hesaplanır
+    private static final double REFRESH_RATIO = 0.1;
+    private static final double MIN_META_SIZE = 14;
+    private static final double MAX_META_SIZE = 80;
+
+    private final GraphManager graphManager;
+    private final GraphAlgorithms algorithms;
+    private final SpatialIndex spatialIndex;
+    private final int nodeLimit;
+
+    // Toplu görünümdeki özet düğümler: id -> {x, y, boyut(px), adet}; isabet testi ve fark için (grup sayısı kadar)
+    private final Map<String, double[]> metas = new LinkedHashMap<>();
+    // Gösterilen özet kenarlar: (a, b) grup çifti -> atıf sayısı
+    private final Map<Long, Integer> metaEdges = new HashMap<>();
+
+    private Grouping grouping = Grouping.YEAR;
+    // metas/metaEdges'in ait olduğu gruplama; grafta özet yoksa null
+    private Grouping shownGrouping;
+    private boolean collapsed;
+    private int collapsedNodeCount;
+    // Her collapse/expand artırır; eskimiş arka plan sonuçları uygulanmaz
+    private int generation;
+    private SwingWorker<Groups, Void> pending;
+
+    public LevelOfDetail(GraphManager graphManager, GraphAlgorithms algorithms, SpatialIndex spatialIndex, int nodeLimit) {
+        this.graphManager = graphManager;
+        this.algorithms = algorithms;
+        this.spatialIndex = spatialIndex;
+        this.nodeLimit = nodeLimit;
+    }
+
+    public boolean isCollapsed() {
+        return collapsed;
+    }
+
+    public Grouping getGrouping() {
+        return grouping;
+    }
+
+    /** Gruplama ölçütünü değiştirir; toplu görünümdeyse gruplar hemen yeniden kurulur. */
+    public void setGrouping(Grouping grouping) {
+        if (grouping == null || grouping == this.grouping) return;
+        this.grouping = grouping;
+        if (collapsed) collapse();
+    }
+
+    /**
+     * Kameranın görünüm oranı (viewPercent) değişti. 1.0 tüm grafın sığdığı görünümdür;
+     * küçüldükçe ekrandaki alan ve dolayısıyla görünen düğüm sayısı karesel azalır.
+     */
+    public void onZoom(double viewPercent) {
+        int nodes = articleCount();
+        double visible = nodes * Math.min(1.0, viewPercent * viewPercent);
+
+        if (!collapsed && visible > nodeLimit) {
+            collapse();
+        } else if (collapsed && visible < nodeLimit * EXPAND_RATIO) {
+            expand();
+        } else if (collapsed && Math.abs(nodes - collapsedNodeCount) > collapsedNodeCount * REFRESH_RATIO) {
+            // Korpus akışı gibi toplu eklemelerden sonra özet düğümleri güncelle
+            collapse();
+        }
+    }
+
+    /**
+     * Makaleleri gizler ve grup başına bir özet düğümle gösterir.
+     * Gruplar arka planda kurulur (graf taraması, çekirdek numaraları ve kenar ağırlıkları EDT'yi
+     * bekletmez); EDT'de yalnızca özet düğüm/kenar farkı uygulanır. Bu arada gelen yeni bir istek
+     * veya açma, süren hesabın sonucunu geçersiz kılar.
+     */
+    public void collapse() {
+        int gen = ++generation;
+        Grouping g = grouping;
+        collapsed = true;
+        collapsedNodeCount = articleCount();
+        if (pending != null) pending.cancel(false);
+        pending = new SwingWorker<>() {
+            @Override
+            protected Groups doInBackground() {
+                return buildGroups(g);
+            }
+
+            @Override
+            protected void done() {
+                if (gen != generation || isCancelled()) return;
+                pending = null;
+                try {
+                    apply(g, get());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    logger.warn("LOD grupları kurulamadı", ex.getCause());
+                }
+            }
+        };
+        pending.execute();
+    }
+
+    /** Özet düğümleri kaldırır ve makaleleri yeniden gösterir. */
+    public void expand() {
+        generation++;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        graphManager.clearMetaNodes();
+        metas.clear();
+        metaEdges.clear();
+        shownGrouping = null;
+        graphManager.setDetailHidden(false);
+        collapsed = false;
+    }
+
+    /** Grafta bulunan makaleleri gruplar ve gruplar arası atıfları sayar. Arka plan thread'inde çalışır. */
+    private Groups buildGroups(Grouping g) {
+        long t0 = System.nanoTime();
+        IdDictionary ids = algorithms.getIds();
+        CitationGraph cg = algorithms.getGraph();
+
+        // Grafta bulunan makaleler ve grupları
+        int[] groupOf = new int[ids.size()];
+        Arrays.fill(groupOf, Integer.MIN_VALUE);
+        TreeMap<Integer, double[]> groups = new TreeMap<>(); // anahtar -> {adet, sumX, sumY, konumlu adet}
+        synchronized (graphManager.getGraph()) {
+            for (Node n : graphManager.getGraph()) {
+                int index = ids.indexOf(n.getId());
+                if (index == IdDictionary.MISSING) continue;
+                int key = groupKey(g, index);
+                groupOf[index] = key;
+                double[] sums = groups.computeIfAbsent(key, k -> new double[4]);
+                sums[0]++;
+                double[] p = spatialIndex.position(n.getId());
+                if (p != null) {
+                    sums[1] += p[0];
+                    sums[2] += p[1];
+                    sums[3]++;
+                }
+            }
+        }
+
+        // Gruplar arası atıfları topla (CSR üzerinde, yalnızca grafta bulunan uçlar)
+        Map<Long, Integer> weights = new HashMap<>();
+        int[] offsets = cg.forwardOffsets();
+        int[] targets = cg.forwardTargets();
+        for (int v = 0; v < groupOf.length; v++) {
+            int gv = groupOf[v];
+            if (gv == Integer.MIN_VALUE) continue;
+            for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+                int gw = groupOf[targets[k]];
+                if (gw == Integer.MIN_VALUE || gw == gv) continue;
+                // Yönsüz: (küçük, büyük) çifti tek kenar
+                long pair = ((long) Math.min(gv, gw) << 32) | (Math.max(gv, gw) & 0xffffffffL);
+                weights.merge(pair, 1, Integer::sum);
+            }
+        }
+        return new Groups(groups, weights, System.nanoTime() - t0);
+    }
+
+    /** Hesaplanan grupları grafa uygular: yalnızca değişen özet düğümler ve kenarlar dokunulur. EDT'de. */
+    private void apply(Grouping g, Groups result) {
+        long t0 = System.nanoTime();
+        if (g != shownGrouping) {
+            // Kimlikler gruplamaya bağlı; eski gruplamanın özet düğümleri tümüyle gider
+            graphManager.clearMetaNodes();
+            metas.clear();
+            metaEdges.clear();
+            shownGrouping = g;
+        }
+
+        double maxCount = 1;
+        for (double[] sums : result.groups.values()) maxCount = Math.max(maxCount, sums[0]);
+        Set<String> live = new HashSet<>();
+        int changed = 0;
+        for (Map.Entry<Integer, double[]> en : result.groups.entrySet()) {
+            double[] sums = en.getValue();
+            double x = sums[3] > 0 ? sums[1] / sums[3] : 0;
+            double y = sums[3] > 0 ? sums[2] / sums[3] : 0;
+            // Alan üye sayısıyla orantılı: çap √adet ile büyür
+            double size = MIN_META_SIZE + (MAX_META_SIZE - MIN_META_SIZE) * Math.sqrt(sums[0] / maxCount);
+            String id = metaId(g, en.getKey());
+            live.add(id);
+            double[] meta = {x, y, size, sums[0]};
+            if (Arrays.equals(metas.get(id), meta)) continue;
+            graphManager.putMetaNode(id, x, y, size, label(g, en.getKey(), (int) sums[0]));
+            metas.put(id, meta);
+            changed++;
+        }
+        for (Iterator<String> it = metas.keySet().iterator(); it.hasNext(); ) {
+            String id = it.next();
+            if (live.contains(id)) continue;
+            // Bağlı özet kenarları düğümle birlikte gider
+            graphManager.removeMetaNode(id);
+            it.remove();
+            changed++;
+        }
+
+        for (Map.Entry<Long, Integer> en : metaEdges.entrySet()) {
+            if (result.weights.containsKey(en.getKey())) continue;
+            String a = metaId(g, (int) (en.getKey() >> 32));
+            String b = metaId(g, (int) (long) en.getKey());
+            if (metas.containsKey(a) && metas.containsKey(b)) graphManager.removeMetaEdge(a, b);
+        }
+        for (Map.Entry<Long, Integer> en : result.weights.entrySet()) {
+            if (en.getValue().equals(metaEdges.get(en.getKey()))) continue;
+            int a = (int) (en.getKey() >> 32);
+            int b = (int) (long) en.getKey();
+            graphManager.putMetaEdge(metaId(g, a), metaId(g, b), en.getValue());
+        }
+        metaEdges.clear();
+        metaEdges.putAll(result.weights);
+        graphManager.setDetailHidden(true);
+
+        logger.debug("LOD: {} makale {} gruba toplandı ({} kenar, {} özet değişti), kurulum {} ms, uygulama {} ms",
+                collapsedNodeCount, result.groups.size(), result.weights.size(), changed,
+                result.buildNanos / 1_000_000, (System.nanoTime() - t0) / 1_000_000);
+    }
+
+    /**
+     * (x, y) noktasındaki özet düğüm; yoksa null. Toplu görünümde gizli makaleler yerine bu kullanılır.
+     * guPerPx: bir pikselin graf birimindeki karşılığı, minRadiusPx: en küçük isabet yarıçapı.
+     */
+    public String metaNodeAt(double x, double y, double guPerPx, double minRadiusPx) {
+        String best = null;
+        double bestD2 = Double.POSITIVE_INFINITY;
+        for (Map.Entry<String, double[]> en : metas.entrySet()) {
+            double[] m = en.getValue();
+            double r = Math.max(minRadiusPx, m[2] / 2) * guPerPx;
+            double dx = m[0] - x, dy = m[1] - y;
+            double d2 = dx * dx + dy * dy;
+            if (d2 <= r * r && d2 < bestD2) {
+                bestD2 = d2;
+                best = en.getKey();
+            }
+        }
+        return best;
+    }
+
+    private int articleCount() {
+        synchronized (graphManager.getGraph()) {
+            return graphManager.getGraph().getNodeCount() - graphManager.metaNodeCount();
+        }
+    }
+
+    private int groupKey(Grouping g, int index) {
+        // Çekirdek numaraları henüz hesaplanıyorsa burada (arka planda) beklenir, EDT'de değil
+        if (g == Grouping.CORE) return algorithms.getCoreNumber(index);
+        return algorithms.getMakale(index).getYear();
+    }
+
+    private static String metaId(Grouping g, int key) {
+        return GraphManager.META_PREFIX + g.name().toLowerCase(Locale.ROOT) + "_" + key;
+    }
+
+    private static String label(Grouping g, int key, int count) {
+        if (g == Grouping.CORE) return "k=" + key + " (" + count + ")";
+        return key + " (" + count + ")";
+    }
+
+    /** Arka planda kurulan gruplar: anahtar -> {adet, sumX, sumY, konumlu adet} ve (a, b) çifti -> atıf sayısı. */
+    private static final class Groups {
+        final TreeMap<Integer, double[]> groups;
+        final Map<Long, Integer> weights;
+        final long buildNanos;
+
+        Groups(TreeMap<Integer, double[]> groups, Map<Long, Integer> weights, long buildNanos) {
+            this.groups = groups;
+            this.weights = weights;
+            this.buildNanos = buildNanos;
+        }
+    }
+}
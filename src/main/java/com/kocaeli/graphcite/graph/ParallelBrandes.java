@@ -0,0 +1,217 @@
+package com.kocaeli.graphcite.graph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Brandes betweenness'ın çok çekirdekli sürümü (ağırlıksız, yönsüz görünüm üzerinde).
+ * Kaynak düğümler ForkJoinPool'da aralıklara bölünür. Her işçi kendi ilkel karalama dizilerini
+ * (dist, sigma, delta, kuyruk) ve kendi kısmi skor dizisini tekrar tekrar kullanır;
+ * kısmi skorlar en sonda toplanır. Kaynak başına HashMap ayırma ve double kutulama yoktur.
+ *
+ * İlerleme bildirimi istenirse kaynaklar karıştırılmış (sabit seed) sırayla turlar halinde işlenir;
+ * her turdan sonra o ana kadarki skorlar toplam/işlenen oranıyla ölçeklenip bildirilir. Rastgele
+ * kaynak alt kümesinden ölçeklenen skor tam skorun yansız tahminidir, son tur tam sonucu verir.
+ * İptal, her kaynaktan önce kontrol edilir.
+ */
+final class ParallelBrandes {
+
+    /** Tur sonunda çağrılır; scores yerel indeksli ve tam ölçeğe genişletilmiştir. */
+    interface ProgressListener {
+        void onProgress(int sourcesDone, int sourcesTotal, double[] scores);
+    }
+
+    private static final int ROUNDS = 20;
+    private static final long ORDER_SEED = 0x5eedL;
+
+    private final UndirectedView view;
+    private final ForkJoinPool pool;
+    private final ConcurrentLinkedQueue<Worker> idle = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Worker> all = new ConcurrentLinkedQueue<>();
+
+    ParallelBrandes(UndirectedView view) {
+        this(view, ForkJoinPool.commonPool());
+    }
+
+    ParallelBrandes(UndirectedView view, ForkJoinPool pool) {
+        this.view = view;
+        this.pool = pool;
+    }
+
+    /**
+     * Tüm kaynaklardan betweenness hesaplar; sonuç yerel indekslidir ve
+     * yönsüz graf için 2'ye bölünmüştür.
+     */
+    double[] run() {
+        return run(null, null);
+    }
+
+    /**
+     * İlerleme bildirimli ve iptal edilebilir hesap. listener null ise kaynaklar tek turda işlenir.
+     * cancelled true dönerse işçiler sıradaki kaynağa geçmeden durur ve null döner.
+     */
+    double[] run(ProgressListener listener, BooleanSupplier cancelled) {
+        int n = view.size();
+        if (n == 0) return new double[0];
+
+        int[] order = listener == null ? null : shuffledSources(n);
+        int rounds = listener == null ? 1 : Math.min(ROUNDS, n);
+        int done = 0;
+        for (int r = 1; r <= rounds; r++) {
+            int to = (int) ((long) n * r / rounds);
+            int grain = Math.max(1, (to - done) / (pool.getParallelism() * 16));
+            pool.invoke(new SourceRange(order, done, to, grain, cancelled));
+            if (cancelled != null && cancelled.getAsBoolean()) return null;
+            done = to;
+
+            if (listener != null && done < n) {
+                double[] partial = collect(n);
+                double scale = (double) n / done;
+                for (int v = 0; v < n; v++) partial[v] *= scale;
+                listener.onProgress(done, n, partial);
+            }
+        }
+
+        double[] cb = collect(n);
+        if (listener != null) listener.onProgress(n, n, cb);
+        return cb;
+    }
+
+    private double[] collect(int n) {
+        double[] cb = new double[n];
+        for (Worker w : all) {
+            for (int v = 0; v < n; v++) cb[v] += w.partial[v];
+        }
+        for (int v = 0; v < n; v++) cb[v] /= 2.0;
+        return cb;
+    }
+
+    private static int[] shuffledSources(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        SplittableRandom random = new SplittableRandom(ORDER_SEED);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        return order;
+    }
+
+    private Worker borrow() {
+        Worker w = idle.poll();
+        if (w == null) {
+            w = new Worker(view.size());
+            all.add(w);
+        }
+        return w;
+    }
+
+    private final class SourceRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] order;
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final BooleanSupplier cancelled;
+
+        SourceRange(int[] order, int from, int to, int grain, BooleanSupplier cancelled) {
+            this.order = order;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                Worker w = borrow();
+                try {
+                    for (int i = from; i < to; i++) {
+                        if (cancelled != null && cancelled.getAsBoolean()) return;
+                        w.accumulate(order == null ? i : order[i]);
+                    }
+                } finally {
+                    idle.add(w);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SourceRange(order, from, mid, grain, cancelled),
+                    new SourceRange(order, mid, to, grain, cancelled));
+        }
+    }
+
+    /** Bir işçinin tekrar kullanılan durum dizileri ve kısmi skorları. */
+    private final class Worker {
+        final int[] queue;
+        final int[] dist;
+        final double[] sigma;
+        final double[] delta;
+        final double[] partial;
+
+        Worker(int n) {
+            queue = new int[n];
+            dist = new int[n];
+            sigma = new double[n];
+            delta = new double[n];
+            partial = new double[n];
+            Arrays.fill(dist, -1);
+        }
+
+        /** Tek kaynaklı Brandes adımı: BFS + geriye doğru bağımlılık birikimi. */
+        void accumulate(int s) {
+            int[] offsets = view.offsets;
+            int[] targets = view.targets;
+            int head = 0, tail = 0;
+            dist[s] = 0;
+            sigma[s] = 1.0;
+            queue[tail++] = s;
+
+            while (head < tail) {
+                int v = queue[head++];
+                int dv = dist[v] + 1;
+                for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+                    int w = targets[k];
+                    if (dist[w] == -1) {
+                        dist[w] = dv;
+                        queue[tail++] = w;
+                    }
+                    if (dist[w] == dv) {
+                        sigma[w] += sigma[v];
+                    }
+                }
+            }
+
+            // BFS kuyruğu tersten okunursa Brandes yığını elde edilir
+            for (int i = tail - 1; i >= 0; i--) {
+                int w = queue[i];
+                int dw = dist[w] - 1;
+                double coeff = (1.0 + delta[w]) / sigma[w];
+                for (int k = offsets[w]; k < offsets[w + 1]; k++) {
+                    int v = targets[k];
+                    if (dist[v] == dw) {
+                        delta[v] += sigma[v] * coeff;
+                    }
+                }
+                if (w != s) {
+                    partial[w] += delta[w];
+                }
+            }
+
+            for (int i = 0; i < tail; i++) {
+                int v = queue[i];
+                dist[v] = -1;
+                sigma[v] = 0.0;
+                delta[v] = 0.0;
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.kocaeli.graphcite.graph;
+
+import org.graphstream.stream.Sink;
+import org.graphstream.ui.geom.Point3;
+import org.graphstream.ui.view.Camera;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Düğüm konumlarının düzgün ızgara (uniform grid) üzerinde uzamsal indeksi.
+ * GraphStream'e Sink olarak bağlanır: kaynak graftan gelen ilk konumlar ve ViewerPipe'tan gelen
+ * layout güncellemeleri ("xyz", "x", "y") yakalanır, düğüm silinince indeksten çıkarılır.
+ * Nokta testi, dikdörtgen sorgusu ve görünür bölge sorgusu sadece ilgili hücrelere bakar;
+ * maliyet toplam düğüm sayısına değil bölgedeki düğüm sayısına bağlıdır.
+ * Koordinatlar graf birimindedir (GU). Tüm metotlar thread-safe'tir.
+ */
+public class SpatialIndex implements Sink {
+
+    private final double cellSize;
+    private final Map<String, double[]> positions = new HashMap<>();
+    private final Map<Long, List<String>> cells = new HashMap<>();
+
+    public SpatialIndex(double cellSize) {
+        if (cellSize <= 0) throw new IllegalArgumentException("cellSize pozitif olmalı: " + cellSize);
+        this.cellSize = cellSize;
+    }
+
+    public synchronized int size() {
+        return positions.size();
+    }
+
+    /** Düğümün bilinen konumu {x, y}; yoksa null. */
+    public synchronized double[] position(String id) {
+        double[] p = positions.get(id);
+        return p == null ? null : p.clone();
+    }
+
+    public synchronized void update(String id, double x, double y) {
+        if (id == null || Double.isNaN(x) || Double.isNaN(y)) return;
+        double[] p = positions.get(id);
+        if (p != null) {
+            long oldKey = key(p[0], p[1]);
+            long newKey = key(x, y);
+            p[0] = x;
+            p[1] = y;
+            if (oldKey == newKey) return;
+            removeFromCell(oldKey, id);
+            cells.computeIfAbsent(newKey, k -> new ArrayList<>(4)).add(id);
+            return;
+        }
+        positions.put(id, new double[]{x, y});
+        cells.computeIfAbsent(key(x, y), k -> new ArrayList<>(4)).add(id);
+    }
+
+    public synchronized void remove(String id) {
+        double[] p = positions.remove(id);
+        if (p != null) removeFromCell(key(p[0], p[1]), id);
+    }
+
+    public synchronized void clear() {
+        positions.clear();
+        cells.clear();
+    }
+
+    /** (x, y) noktasına radius içindeki en yakın düğüm; yoksa null. */
+    public synchronized String nearest(double x, double y, double radius) {
+        String best = null;
+        double bestD2 = radius * radius;
+        int cx0 = cell(x - radius), cx1 = cell(x + radius);
+        int cy0 = cell(y - radius), cy1 = cell(y + radius);
+        long cellsInCircle = (long) (cx1 - cx0 + 1) * (cy1 - cy0 + 1);
+        if (cellsInCircle > cells.size()) {
+            // Çok uzaklaştırılmış görünüm: dolu hücreleri taramak daha ucuz
+            for (List<String> c : cells.values()) {
+                for (String id : c) {
+                    double[] p = positions.get(id);
+                    double dx = p[0] - x, dy = p[1] - y;
+                    double d2 = dx * dx + dy * dy;
+                    if (d2 <= bestD2) {
+                        bestD2 = d2;
+                        best = id;
+                    }
+                }
+            }
+            return best;
+        }
+        for (int cx = cx0; cx <= cx1; cx++) {
+            for (int cy = cy0; cy <= cy1; cy++) {
+                List<String> c = cells.get(pack(cx, cy));
+                if (c == null) continue;
+                for (String id : c) {
+                    double[] p = positions.get(id);
+                    double dx = p[0] - x, dy = p[1] - y;
+                    double d2 = dx * dx + dy * dy;
+                    if (d2 <= bestD2) {
+                        bestD2 = d2;
+                        best = id;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Dikdörtgen içindeki düğümler (köşeler herhangi bir sırada verilebilir).
+     * Dikdörtgen seçim ve görünür bölge (viewport) sorguları için kullanılır.
+     */
+    public synchronized List<String> query(double x0, double y0, double x1, double y1) {
+        double minX = Math.min(x0, x1), maxX = Math.max(x0, x1);
+        double minY = Math.min(y0, y1), maxY = Math.max(y0, y1);
+        List<String> result = new ArrayList<>();
+
+        long cellsInRect = (long) (cell(maxX) - cell(minX) + 1) * (cell(maxY) - cell(minY) + 1);
+        if (cellsInRect > cells.size()) {
+            // Çok geniş bölge (uzaklaştırılmış görünüm): dolu hücreleri taramak daha ucuz
+            for (List<String> c : cells.values()) collect(c, minX, minY, maxX, maxY, result);
+            return result;
+        }
+        for (int cx = cell(minX); cx <= cell(maxX); cx++) {
+            for (int cy = cell(minY); cy <= cell(maxY); cy++) {
+                List<String> c = cells.get(pack(cx, cy));
+                if (c != null) collect(c, minX, minY, maxX, maxY, result);
+            }
+        }
+        return result;
+    }
+
+    /** Kameranın gösterdiği bölgedeki düğümler (ekran dışı düğümler için etiket/sprite işi atlanabilir). */
+    public List<String> visible(Camera camera, int widthPx, int heightPx) {
+        Point3 a = camera.transformPxToGu(0, 0);
+        Point3 b = camera.transformPxToGu(widthPx, heightPx);
+        return query(a.x, a.y, b.x, b.y);
+    }
+
+    private void collect(List<String> c, double minX, double minY, double maxX, double maxY, List<String> out) {
+        for (String id : c) {
+            double[] p = positions.get(id);
+            if (p[0] >= minX && p[0] <= maxX && p[1] >= minY && p[1] <= maxY) out.add(id);
+        }
+    }
+
+    private void removeFromCell(long key, String id) {
+        List<String> c = cells.get(key);
+        if (c == null) return;
+        c.remove(id);
+        if (c.isEmpty()) cells.remove(key);
+    }
+
+    private int cell(double v) {
+        return (int) Math.floor(v / cellSize);
+    }
+
+    private long key(double x, double y) {
+        return pack(cell(x), cell(y));
+    }
+
+    private static long pack(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    /* ------------------ GraphStream Sink ------------------ */
+
+    @Override
+    public void nodeAttributeAdded(String sourceId, long timeId, String nodeId, String attribute, Object value) {
+        onNodeAttribute(nodeId, attribute, value);
+    }
+
+    @Override
+    public void nodeAttributeChanged(String sourceId, long timeId, String nodeId, String attribute,
+                                     Object oldValue, Object newValue) {
+        onNodeAttribute(nodeId, attribute, newValue);
+    }
+
+    private void onNodeAttribute(String nodeId, String attribute, Object value) {
+        if ("xyz".equals(attribute) || "xy".equals(attribute)) {
+            double[] xy = toXY(value);
+            if (xy != null) update(nodeId, xy[0], xy[1]);
+        } else if ("x".equals(attribute) || "y".equals(attribute)) {
+            if (!(value instanceof Number)) return;
+            double v = ((Number) value).doubleValue();
+            synchronized (this) {
+                double[] p = positions.get(nodeId);
+                double x = p == null ? 0 : p[0];
+                double y = p == null ? 0 : p[1];
+                if ("x".equals(attribute)) update(nodeId, v, y);
+                else update(nodeId, x, v);
+            }
+        }
+    }
+
+    /** "xyz" değeri double[], float[] veya Number dizisi (Object[]) olarak gelebilir. */
+    private static double[] toXY(Object value) {
+        if (value instanceof double[] d && d.length >= 2) return new double[]{d[0], d[1]};
+        if (value instanceof float[] f && f.length >= 2) return new double[]{f[0], f[1]};
+        if (value instanceof Object[] o && o.length >= 2
+                && o[0] instanceof Number a && o[1] instanceof Number b) {
+            return new double[]{a.doubleValue(), b.doubleValue()};
+        }
+        return null;
+    }
+
+    @Override
+    public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+        remove(nodeId);
+    }
+
+    @Override
+    public void graphCleared(String sourceId, long timeId) {
+        clear();
+    }
+
+    @Override public void nodeAttributeRemoved(String sourceId, long timeId, String nodeId, String attribute) { }
+    @Override public void graphAttributeAdded(String sourceId, long timeId, String attribute, Object value) { }
+    @Override public void graphAttributeChanged(String sourceId, long timeId, String attribute, Object oldValue, Object newValue) { }
+    @Override public void graphAttributeRemoved(String sourceId, long timeId, String attribute) { }
+    @Override public void edgeAttributeAdded(String sourceId, long timeId, String edgeId, String attribute, Object value) { }
+    @Override public void edgeAttributeChanged(String sourceId, long timeId, String edgeId, String attribute, Object oldValue, Object newValue) { }
+    @Override public void edgeAttributeRemoved(String sourceId, long timeId, String edgeId, String attribute) { }
+    @Override public void nodeAdded(String sourceId, long timeId, String nodeId) { }
+    @Override public void edgeAdded(String sourceId, long timeId, String edgeId, String fromNodeId, String toNodeId, boolean directed) { }
+    @Override public void edgeRemoved(String sourceId, long timeId, String edgeId) { }
+    @Override public void stepBegins(String sourceId, long timeId, double step) { }
+}
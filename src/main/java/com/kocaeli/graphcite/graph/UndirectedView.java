@@ -0,0 +1,40 @@
+package com.kocaeli.graphcite.graph;
+
+import java.util.Arrays;
+
+/**
+ * CitationGraph'ın (tamamının veya bir alt kümesinin) yönsüz CSR görünümü.
+ * Algoritmalar yerel indeksler (0..size-1) üzerinde çalışır; nodes[yerel] global indeksi verir.
+ */
+final class UndirectedView {
+    final int[] nodes;
+    final int[] offsets;
+    final int[] targets;
+    // Alt küme görünümünde global -> yerel eşleme: globale göre sıralı indeksler ve yerel karşılıkları.
+    // Tüm graf görünümünde null (yerel = global).
+    private final int[] sorted;
+    private final int[] localOf;
+
+    UndirectedView(int[] nodes, int[] offsets, int[] targets) {
+        this(nodes, offsets, targets, null, null);
+    }
+
+    UndirectedView(int[] nodes, int[] offsets, int[] targets, int[] sorted, int[] localOf) {
+        this.nodes = nodes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.sorted = sorted;
+        this.localOf = localOf;
+    }
+
+    int size() {
+        return nodes.length;
+    }
+
+    /** Global indeksin yerel karşılığı; görünümde yoksa -1. */
+    int localIndex(int global) {
+        if (sorted == null) return global >= 0 && global < nodes.length ? global : -1;
+        int at = Arrays.binarySearch(sorted, global);
+        return at >= 0 ? localOf[at] : -1;
+    }
+}
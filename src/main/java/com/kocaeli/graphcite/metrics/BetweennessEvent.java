@@ -0,0 +1,36 @@
+package com.kocaeli.graphcite.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Bir betweenness hesabı (naive, brandes, exact veya approx). */
+@Name("com.kocaeli.graphcite.Betweenness")
+@Label("Betweenness")
+@Category({"GraphCite", "Algorithms"})
+@Description("Betweenness centrality hesabı; alt küme boyutu hesaba katılan düğüm sayısıdır")
+public final class BetweennessEvent extends Event {
+
+    @Label("Algoritma")
+    public String algorithm;
+
+    @Label("Makale Sayısı")
+    public int corpusSize;
+
+    @Label("Alt Küme Boyutu")
+    public int subsetSize;
+
+    @Label("Kenar Sayısı")
+    public int edges;
+
+    @Label("İşlenen Kaynak/Örnek")
+    public int samples;
+
+    @Label("Sonuç Boyutu")
+    public int resultSize;
+
+    @Label("İptal Edildi")
+    public boolean cancelled;
+}
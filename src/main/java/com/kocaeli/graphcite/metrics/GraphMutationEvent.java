@@ -0,0 +1,30 @@
+package com.kocaeli.graphcite.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** GraphManager'ın görünen grafı değiştirmesi (showInfo genişletmesi, zaman çizgisi yeniden kurulumu). */
+@Name("com.kocaeli.graphcite.GraphMutation")
+@Label("Graf Değişikliği")
+@Category({"GraphCite", "Graph"})
+@Description("Görünen GraphStream grafına tek kilitte uygulanan değişiklik")
+public final class GraphMutationEvent extends Event {
+
+    @Label("İşlem")
+    public String operation;
+
+    @Label("Eklenen Düğüm")
+    public int nodesAdded;
+
+    @Label("Eklenen Kenar")
+    public int edgesAdded;
+
+    @Label("Sınıf Değişikliği")
+    public int classChanges;
+
+    @Label("Graftaki Düğüm")
+    public int graphNodes;
+}
@@ -0,0 +1,30 @@
+package com.kocaeli.graphcite.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Tek makale için etkileşimli h-index veya h-median sorgusu (tıklama, hover).
+ * Bibliyometrik tablonun toplu doldurması bu olayı üretmez.
+ */
+@Name("com.kocaeli.graphcite.HIndex")
+@Label("H-Index / H-Median")
+@Category({"GraphCite", "Algorithms"})
+@Description("Tek makale için h-index veya h-median hesabı")
+public final class HIndexEvent extends Event {
+
+    @Label("Metrik")
+    public String metric;
+
+    @Label("Makale İndeksi")
+    public int paperIndex;
+
+    @Label("Atıf Yapan Sayısı")
+    public int citers;
+
+    @Label("Sonuç")
+    public int result;
+}
@@ -0,0 +1,21 @@
+package com.kocaeli.graphcite.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** GraphAlgorithms kurulumu: IdDictionary, CSR atıf grafı ve atıf sayıları. */
+@Name("com.kocaeli.graphcite.IndexBuild")
+@Label("İndeks Kurulumu")
+@Category({"GraphCite", "Algorithms"})
+@Description("Id sözlüğü, CSR atıf grafı ve atıf sayılarının kurulması")
+public final class IndexBuildEvent extends Event {
+
+    @Label("Makale Sayısı")
+    public int corpusSize;
+
+    @Label("Atıf Kenarı Sayısı")
+    public int edges;
+}
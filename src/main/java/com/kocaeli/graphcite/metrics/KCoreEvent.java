@@ -0,0 +1,28 @@
+package com.kocaeli.graphcite.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** k-core sorgusu; çekirdek numaraları bu çağrıda hesaplandıysa coldStart true. */
+@Name("com.kocaeli.graphcite.KCore")
+@Label("K-Core")
+@Category({"GraphCite", "Algorithms"})
+@Description("k-core sorgusu (ilk çağrıda çekirdek ayrıştırması dahil)")
+public final class KCoreEvent extends Event {
+
+    @Label("Makale Sayısı")
+    public int corpusSize;
+
+    @Label("k")
+    public int k;
+
+    @Label("Soğuk Başlangıç")
+    @Description("Çekirdek numaraları bu çağrıda hesaplandı")
+    public boolean coldStart;
+
+    @Label("Sonuç Boyutu")
+    public int resultSize;
+}
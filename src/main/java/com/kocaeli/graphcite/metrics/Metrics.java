@@ -0,0 +1,180 @@
+package com.kocaeli.graphcite.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Uygulama genelinde sayaç, zamanlayıcı ve histogram kaydı.
+ *
+ * -Dgraphcite.metrics=true ile açılır; kapalıyken ENABLED sabit false olduğundan her çağrı
+ * ilk satırda döner ve JIT tarafından tamamen elenir (ölçüm maliyeti yok).
+ * -Dgraphcite.metrics.file=metrics.txt verilirse kayıt periyodik olarak (varsayılan 60 s,
+ * -Dgraphcite.metrics.period ile) bu dosyaya ve çıkışta son kez yazılır.
+ *
+ * Kullanım:
+ *   long t = Metrics.start();
+ *   ...
+ *   Metrics.stop("algorithms.kcore", t);
+ *   Metrics.record("algorithms.kcore.result", result.size());
+ *
+ * Zamanlayıcılar nanosaniye tutar, raporda milisaniye gösterilir.
+ */
+public final class Metrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("graphcite.metrics");
+
+    private static final String FILE_PROPERTY = "graphcite.metrics.file";
+    private static final String PERIOD_PROPERTY = "graphcite.metrics.period";
+
+    public enum Kind { COUNTER, TIMER, HISTOGRAM }
+
+    /** Bir metriğin anlık değeri; zamanlayıcılarda değerler milisaniyedir. */
+    public static final class Snapshot {
+        public final String name;
+        public final Kind kind;
+        public final long count;
+        public final double mean;
+        public final double p50;
+        public final double p90;
+        public final double p99;
+        public final double max;
+
+        Snapshot(String name, Kind kind, long count, double mean, double p50, double p90, double p99, double max) {
+            this.name = name;
+            this.kind = kind;
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+        }
+    }
+
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> timers = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService dumper;
+
+    private Metrics() {
+    }
+
+    public static void count(String name) {
+        count(name, 1);
+    }
+
+    public static void count(String name, long delta) {
+        if (!ENABLED) return;
+        counters.computeIfAbsent(name, k -> new LongAdder()).add(delta);
+    }
+
+    /** Histograma bir değer (ör. dokunulan düğüm/kenar sayısı, sonuç boyutu) ekler. */
+    public static void record(String name, long value) {
+        if (!ENABLED) return;
+        histograms.computeIfAbsent(name, k -> new Histogram()).record(value);
+    }
+
+    /** Zamanlayıcı başlangıcı; kapalıyken saat okunmaz. */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /** start()'tan bu yana geçen süreyi zamanlayıcıya kaydeder. */
+    public static void stop(String name, long start) {
+        if (!ENABLED) return;
+        recordNanos(name, System.nanoTime() - start);
+    }
+
+    /** Başka yerde ölçülmüş bir süreyi (nanosaniye) zamanlayıcıya kaydeder. */
+    public static void recordNanos(String name, long nanos) {
+        if (!ENABLED) return;
+        timers.computeIfAbsent(name, k -> new Histogram()).record(nanos);
+    }
+
+    /** Tüm metrikler, ada göre sıralı. */
+    public static List<Snapshot> snapshot() {
+        List<Snapshot> out = new ArrayList<>();
+        counters.forEach((name, c) -> {
+            long v = c.sum();
+            out.add(new Snapshot(name, Kind.COUNTER, v, v, v, v, v, v));
+        });
+        timers.forEach((name, h) -> out.add(snapshotOf(name, Kind.TIMER, h, 1e-6)));
+        histograms.forEach((name, h) -> out.add(snapshotOf(name, Kind.HISTOGRAM, h, 1.0)));
+        out.sort((a, b) -> a.name.compareTo(b.name));
+        return out;
+    }
+
+    private static Snapshot snapshotOf(String name, Kind kind, Histogram h, double scale) {
+        long n = h.getCount();
+        return new Snapshot(name, kind, n, n == 0 ? 0 : h.getSum() * scale / n,
+                h.percentile(0.50) * scale, h.percentile(0.90) * scale, h.percentile(0.99) * scale,
+                h.getMax() * scale);
+    }
+
+    /** Düz metin tablo: ad, tür, adet, ortalama, p50, p90, p99, maks. */
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-40s %-9s %10s %12s %12s %12s %12s %12s%n",
+                "metric", "kind", "count", "mean", "p50", "p90", "p99", "max"));
+        for (Snapshot s : snapshot()) {
+            if (s.kind == Kind.COUNTER) {
+                sb.append(String.format(Locale.ROOT, "%-40s %-9s %10d%n", s.name, "counter", s.count));
+            } else {
+                sb.append(String.format(Locale.ROOT, "%-40s %-9s %10d %12.3f %12.3f %12.3f %12.3f %12.3f%n",
+                        s.name, s.kind == Kind.TIMER ? "timer_ms" : "histogram",
+                        s.count, s.mean, s.p50, s.p90, s.p99, s.max));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * graphcite.metrics.file ayarlıysa periyodik dosya yazımını başlatır (bir kez); çıkışta son
+     * durum da yazılır. Metrikler kapalıysa veya dosya verilmemişse hiçbir şey yapmaz.
+     */
+    public static synchronized void startFileDump() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (!ENABLED || file == null || file.isBlank() || dumper != null) return;
+
+        Path path = Path.of(file);
+        long period = Math.max(1, Long.getLong(PERIOD_PROPERTY, 60L));
+        dumper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "graphcite-metrics-dump");
+            t.setDaemon(true);
+            return t;
+        });
+        dumper.scheduleAtFixedRate(() -> dump(path), period, period, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(path), "graphcite-metrics-final-dump"));
+    }
+
+    /** Raporu dosyaya yazar (geçici dosya + taşıma; okuyan yarım dosya görmez). */
+    public static void dump(Path path) {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            w.write("# GraphCite metrics " + Instant.now() + System.lineSeparator());
+            w.write(report());
+        } catch (IOException e) {
+            System.err.println("Metrik dosyası yazılamadı: " + path + " (" + e.getMessage() + ")");
+            return;
+        }
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Metrik dosyası taşınamadı: " + path + " (" + e.getMessage() + ")");
+        }
+    }
+}
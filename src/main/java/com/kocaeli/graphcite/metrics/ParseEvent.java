@@ -0,0 +1,29 @@
+package com.kocaeli.graphcite.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JSON korpusunun ayrıştırılması (JsonParser.parse / parseParallel). */
+@Name("com.kocaeli.graphcite.Parse")
+@Label("Korpus Ayrıştırma")
+@Category({"GraphCite", "Parser"})
+@Description("data.json biçimindeki korpusun Makale listesine ayrıştırılması")
+public final class ParseEvent extends Event {
+
+    @Label("Dosya")
+    public String path;
+
+    @Label("Dosya Boyutu")
+    @DataAmount
+    public long bytes;
+
+    @Label("Paralel")
+    public boolean parallel;
+
+    @Label("Makale Sayısı")
+    public int corpusSize;
+}
@@ -0,0 +1,78 @@
+package com.kocaeli.graphcite.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAlex iş id'leri (ör. "https://openalex.org/W2002615855") ile yoğun int indeksler arasında çift yönlü sözlük.
+ * İndeksler korpus sırasına göre 0..n-1 verilir ve her Makale'ye {@link Makale#setIndex(int)} ile yazılır.
+ * Algoritmalar ve indeksler int ile çalışır; String id yalnızca arayüz sınırında kullanılır.
+ */
+public final class IdDictionary {
+
+    public static final int MISSING = -1;
+
+    private final String[] ids;
+    private final long[] numericIds;
+    private final Map<String, Integer> index;
+
+    public IdDictionary(List<Makale> makaleler) {
+        int n = makaleler.size();
+        this.ids = new String[n];
+        this.numericIds = new long[n];
+        this.index = new HashMap<>(Math.max(16, (int) (n / 0.75f) + 1));
+
+        for (int i = 0; i < n; i++) {
+            Makale m = makaleler.get(i);
+            m.setIndex(i);
+            ids[i] = m.getId();
+            numericIds[i] = numericPart(m.getId());
+            // Aynı id iki kez varsa (eski makaleMap gibi) sonuncusu geçerli
+            index.put(m.getId(), i);
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /** String id -> int indeks; korpusta yoksa {@link #MISSING}. */
+    public int indexOf(String id) {
+        if (id == null) return MISSING;
+        Integer i = index.get(id);
+        return i == null ? MISSING : i;
+    }
+
+    public boolean contains(String id) {
+        return id != null && index.containsKey(id);
+    }
+
+    /** int indeks -> String id. */
+    public String idOf(int i) {
+        return ids[i];
+    }
+
+    /** İndeksteki id'nin sayısal kısmı (ör. W2002615855 -> 2002615855); bir kez hesaplanır. */
+    public long numericIdOf(int i) {
+        return numericIds[i];
+    }
+
+    /**
+     * ID stringindeki rakamları sırayla birleştirip sayıya çevirir (regex kullanmadan).
+     * Örn: "https://openalex.org/W2756105776" -> 2756105776. Rakam yoksa veya taşarsa 0.
+     */
+    public static long numericPart(String id) {
+        if (id == null) return 0;
+        long value = 0;
+        boolean any = false;
+        for (int i = 0, len = id.length(); i < len; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') continue;
+            any = true;
+            if (value > (Long.MAX_VALUE - (c - '0')) / 10) return 0;
+            value = value * 10 + (c - '0');
+        }
+        return any ? value : 0;
+    }
+}
@@ -7,10 +7,12 @@ public class Makale {
     private String id;
     private String title;
     private String doi;
+    private String venue;
     private int year;
     private List<String> authors;
     private List<String> referencedWorkIds; // Atıf yapılan makalelerin ID'leri
     private int citationCount; // Kaç kişi bu makaleye atıf yaptı (Hesaplanacak)
+    private int index = -1; // IdDictionary'nin verdiği yoğun int indeks
 
     public Makale() {
         this.authors = new ArrayList<>();
@@ -28,6 +30,9 @@ public class Makale {
     public String getDoi() { return doi; }
     public void setDoi(String doi) { this.doi = doi; }
 
+    public String getVenue() { return venue; }
+    public void setVenue(String venue) { this.venue = venue; }
+
     public int getYear() { return year; }
     public void setYear(int year) { this.year = year; }
 
@@ -40,6 +45,9 @@ public class Makale {
     public int getCitationCount() { return citationCount; }
     public void setCitationCount(int citationCount) { this.citationCount = citationCount; }
 
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
     // Alınan atıf sayısını 1 artırır
     public void incrementCitationCount() {
         this.citationCount++;
@@ -52,14 +60,7 @@ public class Makale {
 
  //test
  public long getIdAsLong() {
-     try {
-         // ID sadece sayı ise direkt parse et
-         return Long.parseLong(this.id);
-     } catch (NumberFormatException e) {
-         // Eğer ID "https://.../W12345" formatındaysa sadece sondaki sayıyı çek
-         String numericPart = this.id.replaceAll("[^0-9]", "");
-         if (numericPart.isEmpty()) return 0;
-         return Long.parseLong(numericPart);
-     }
+     // Hem "12345" hem "https://.../W12345" biçiminde sadece rakamlar alınır
+     return IdDictionary.numericPart(this.id);
  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,372 @@
+package com.kocaeli.graphcite.parser;
+
+import com.kocaeli.graphcite.model.Makale;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ayrıştırılmış korpusun ikili (binary) anlık görüntüsü.
+ * data.json başarıyla ayrıştırıldıktan sonra yanına "data.json.snapshot" olarak bir kez yazılır,
+ * sonraki açılışlarda memory-map edilerek JSON'ı yeniden ayrıştırmadan Makale listesi kurulur.
+ *
+ * Dosya düzeni (big-endian):
+ *   başlık: magic, sürüm, kaynak boyutu, kaynak mtime, kaynak CRC32C, makale sayısı
+ *   içindekiler: her bölüm için (offset, uzunluk)
+ *   bölümler (sütun bazlı): yıllar, id'ler, başlıklar, doi'ler, venue indeksleri, venue adları,
+ *   yazar listeleri, yazar adları, referans listeleri, korpus dışı referans id'leri
+ *
+ * Yazar ve venue adları tekilleştirilmiş tablolarda tutulur. Korpus içi referanslar,
+ * atıf yapılan makalenin sıra numarası (>= 0) olarak, korpus dışı olanlar -(k+1) olarak saklanır.
+ * data.json'ın boyutu, değiştirilme zamanı veya içerik özeti (CRC32C) değişirse anlık görüntü geçersiz sayılır.
+ */
+public class CorpusSnapshot {
+
+    private static final long MAGIC = 0x4743534E41505331L; // "GCSNAPS1"
+    private static final int VERSION = 1;
+
+    private static final int S_YEARS = 0;
+    private static final int S_IDS = 1;
+    private static final int S_TITLES = 2;
+    private static final int S_DOIS = 3;
+    private static final int S_VENUES = 4;
+    private static final int S_VENUE_NAMES = 5;
+    private static final int S_AUTHORS = 6;
+    private static final int S_AUTHOR_NAMES = 7;
+    private static final int S_REFERENCES = 8;
+    private static final int S_EXTERNAL_REFS = 9;
+    private static final int SECTION_COUNT = 10;
+
+    private static final int HEADER_SIZE = 8 + 4 + 8 + 8 + 8 + 4 + SECTION_COUNT * 16;
+
+    private final Path jsonPath;
+    private final Path snapshotPath;
+    private SourceFingerprint source;
+
+    public CorpusSnapshot(Path jsonPath) {
+        this.jsonPath = jsonPath;
+        this.snapshotPath = jsonPath.resolveSibling(jsonPath.getFileName() + ".snapshot");
+    }
+
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    /**
+     * Geçerli bir anlık görüntü varsa makaleleri ondan okur.
+     * Dosya yoksa, kaynak JSON değişmişse veya dosya bozuksa null döner (çağıran JSON'ı ayrıştırmalı).
+     */
+    public List<Makale> read() throws IOException {
+        if (!Files.isRegularFile(snapshotPath)) return null;
+        SourceFingerprint fp = fingerprint();
+
+        try (FileChannel ch = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            long fileSize = ch.size();
+            if (fileSize < HEADER_SIZE) return null;
+
+            ByteBuffer header = ch.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getLong() != MAGIC || header.getInt() != VERSION) return null;
+            if (!fp.matches(header.getLong(), header.getLong(), header.getLong())) return null;
+            int count = header.getInt();
+            if (count < 0) return null;
+
+            MappedByteBuffer[] sections = new MappedByteBuffer[SECTION_COUNT];
+            for (int s = 0; s < SECTION_COUNT; s++) {
+                long off = header.getLong();
+                long len = header.getLong();
+                if (off < HEADER_SIZE || len < 0 || len > Integer.MAX_VALUE || off + len > fileSize) return null;
+                sections[s] = ch.map(FileChannel.MapMode.READ_ONLY, off, len);
+            }
+
+            return decode(count, sections);
+        } catch (RuntimeException e) {
+            // Bozuk/yarım dosya: sınır dışı okuma vb. -> geçersiz say
+            return null;
+        }
+    }
+
+    /**
+     * Makale listesini anlık görüntü olarak yazar. Önce geçici dosyaya yazılır,
+     * sonra yerine taşınır; yarım kalmış bir yazım hiçbir zaman geçerli görünmez.
+     */
+    public void write(List<Makale> makaleler) throws IOException {
+        SourceFingerprint fp = fingerprint();
+        int n = makaleler.size();
+
+        Map<String, Integer> idIndex = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) idIndex.putIfAbsent(makaleler.get(i).getId(), i);
+
+        Path tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            SectionWriter w = new SectionWriter(ch, HEADER_SIZE);
+            long[] offsets = new long[SECTION_COUNT];
+            long[] lengths = new long[SECTION_COUNT];
+
+            // yıllar
+            w.begin(S_YEARS, offsets);
+            for (Makale m : makaleler) w.putInt(m.getYear());
+            w.end(S_YEARS, offsets, lengths);
+
+            w.begin(S_IDS, offsets);
+            w.putStrings(makaleler.size(), i -> makaleler.get(i).getId());
+            w.end(S_IDS, offsets, lengths);
+
+            w.begin(S_TITLES, offsets);
+            w.putStrings(makaleler.size(), i -> makaleler.get(i).getTitle());
+            w.end(S_TITLES, offsets, lengths);
+
+            w.begin(S_DOIS, offsets);
+            w.putStrings(makaleler.size(), i -> makaleler.get(i).getDoi());
+            w.end(S_DOIS, offsets, lengths);
+
+            // venue: makale başına tablo indeksi + tekil ad tablosu
+            Map<String, Integer> venueIndex = new HashMap<>();
+            List<String> venueNames = new ArrayList<>();
+            w.begin(S_VENUES, offsets);
+            for (Makale m : makaleler) w.putInt(intern(m.getVenue(), venueIndex, venueNames));
+            w.end(S_VENUES, offsets, lengths);
+
+            w.begin(S_VENUE_NAMES, offsets);
+            w.putStrings(venueNames.size(), venueNames::get);
+            w.end(S_VENUE_NAMES, offsets, lengths);
+
+            // yazarlar: liste sınırları + tekil ad tablosu indeksleri
+            Map<String, Integer> authorIndex = new HashMap<>();
+            List<String> authorNames = new ArrayList<>();
+            w.begin(S_AUTHORS, offsets);
+            int[] authorBounds = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                List<String> authors = makaleler.get(i).getAuthors();
+                authorBounds[i + 1] = authorBounds[i] + (authors == null ? 0 : authors.size());
+            }
+            for (int b : authorBounds) w.putInt(b);
+            for (Makale m : makaleler) {
+                if (m.getAuthors() == null) continue;
+                for (String a : m.getAuthors()) w.putInt(intern(a, authorIndex, authorNames));
+            }
+            w.end(S_AUTHORS, offsets, lengths);
+
+            w.begin(S_AUTHOR_NAMES, offsets);
+            w.putStrings(authorNames.size(), authorNames::get);
+            w.end(S_AUTHOR_NAMES, offsets, lengths);
+
+            // referanslar: korpus içi -> makale indeksi, korpus dışı -> -(k+1)
+            Map<String, Integer> externalIndex = new HashMap<>();
+            List<String> externalIds = new ArrayList<>();
+            w.begin(S_REFERENCES, offsets);
+            int[] refBounds = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                List<String> refs = makaleler.get(i).getReferencedWorkIds();
+                refBounds[i + 1] = refBounds[i] + (refs == null ? 0 : refs.size());
+            }
+            for (int b : refBounds) w.putInt(b);
+            for (Makale m : makaleler) {
+                if (m.getReferencedWorkIds() == null) continue;
+                for (String ref : m.getReferencedWorkIds()) {
+                    Integer idx = idIndex.get(ref);
+                    w.putInt(idx != null ? idx : -(intern(ref, externalIndex, externalIds) + 1));
+                }
+            }
+            w.end(S_REFERENCES, offsets, lengths);
+
+            w.begin(S_EXTERNAL_REFS, offsets);
+            w.putStrings(externalIds.size(), externalIds::get);
+            w.end(S_EXTERNAL_REFS, offsets, lengths);
+
+            w.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putLong(MAGIC).putInt(VERSION)
+                    .putLong(fp.size).putLong(fp.mtime).putLong(fp.crc)
+                    .putInt(n);
+            for (int s = 0; s < SECTION_COUNT; s++) header.putLong(offsets[s]).putLong(lengths[s]);
+            header.flip();
+            while (header.hasRemaining()) ch.write(header, header.position());
+            ch.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // ---------------- Okuma ----------------
+
+    private static List<Makale> decode(int count, MappedByteBuffer[] sections) {
+        StringColumn ids = new StringColumn(sections[S_IDS]);
+        StringColumn titles = new StringColumn(sections[S_TITLES]);
+        StringColumn dois = new StringColumn(sections[S_DOIS]);
+        String[] venueNames = new StringColumn(sections[S_VENUE_NAMES]).toArray();
+        String[] authorNames = new StringColumn(sections[S_AUTHOR_NAMES]).toArray();
+        String[] externalIds = new StringColumn(sections[S_EXTERNAL_REFS]).toArray();
+        if (ids.size() != count || titles.size() != count || dois.size() != count) return null;
+
+        ByteBuffer years = sections[S_YEARS];
+        ByteBuffer venues = sections[S_VENUES];
+        ByteBuffer authors = sections[S_AUTHORS];
+        ByteBuffer refs = sections[S_REFERENCES];
+        int authorsBase = 4 * (count + 1);
+        int refsBase = 4 * (count + 1);
+
+        // Önce tüm id'ler: referans listeleri aynı String örneklerini paylaşır
+        String[] idArr = ids.toArray();
+
+        List<Makale> makaleler = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Makale m = new Makale();
+            m.setId(idArr[i]);
+            m.setTitle(titles.get(i));
+            m.setDoi(dois.get(i));
+            m.setYear(years.getInt(4 * i));
+            m.setVenue(venueNames[venues.getInt(4 * i)]);
+
+            int aFrom = authors.getInt(4 * i);
+            int aTo = authors.getInt(4 * (i + 1));
+            List<String> authorList = new ArrayList<>(aTo - aFrom);
+            for (int k = aFrom; k < aTo; k++) authorList.add(authorNames[authors.getInt(authorsBase + 4 * k)]);
+            m.setAuthors(authorList);
+
+            int rFrom = refs.getInt(4 * i);
+            int rTo = refs.getInt(4 * (i + 1));
+            List<String> refList = new ArrayList<>(rTo - rFrom);
+            for (int k = rFrom; k < rTo; k++) {
+                int code = refs.getInt(refsBase + 4 * k);
+                refList.add(code >= 0 ? idArr[code] : externalIds[-code - 1]);
+            }
+            m.setReferencedWorkIds(refList);
+
+            makaleler.add(m);
+        }
+        return makaleler;
+    }
+
+    /** Bölüm düzeni: int n, UTF-8 byte'lar, int[n+1] başlangıç offsetleri (bölüm sonunda). */
+    private static final class StringColumn {
+        private final ByteBuffer buf;
+        private final int size;
+        private final int offsetsBase;
+        private byte[] tmp = new byte[256];
+
+        StringColumn(ByteBuffer buf) {
+            this.buf = buf;
+            this.size = buf.getInt(0);
+            this.offsetsBase = buf.limit() - 4 * (size + 1);
+            if (size < 0 || offsetsBase < 4) throw new IllegalStateException("Bozuk string bölümü");
+        }
+
+        int size() {
+            return size;
+        }
+
+        String get(int i) {
+            int from = buf.getInt(offsetsBase + 4 * i);
+            int to = buf.getInt(offsetsBase + 4 * (i + 1));
+            int len = to - from;
+            if (len > tmp.length) tmp = new byte[Math.max(len, tmp.length * 2)];
+            buf.get(4 + from, tmp, 0, len);
+            return new String(tmp, 0, len, StandardCharsets.UTF_8);
+        }
+
+        String[] toArray() {
+            String[] arr = new String[size];
+            for (int i = 0; i < size; i++) arr[i] = get(i);
+            return arr;
+        }
+    }
+
+    // ---------------- Yazma ----------------
+
+    private interface IndexedString {
+        String get(int i);
+    }
+
+    /** Kanal üzerine tamponlu, konum takipli sıralı yazıcı. */
+    private static final class SectionWriter {
+        private final FileChannel ch;
+        private final ByteBuffer buf = ByteBuffer.allocate(1 << 20);
+        private long position;
+
+        SectionWriter(FileChannel ch, long start) {
+            this.ch = ch;
+            this.position = start;
+        }
+
+        void begin(int section, long[] offsets) {
+            offsets[section] = position + buf.position();
+        }
+
+        void end(int section, long[] offsets, long[] lengths) throws IOException {
+            lengths[section] = position + buf.position() - offsets[section];
+            if (lengths[section] > Integer.MAX_VALUE) {
+                throw new IOException("Anlık görüntü bölümü 2 GB sınırını aşıyor (bölüm " + section + ")");
+            }
+        }
+
+        void putInt(int v) throws IOException {
+            if (buf.remaining() < 4) flush();
+            buf.putInt(v);
+        }
+
+        void putBytes(byte[] b) throws IOException {
+            int off = 0;
+            while (off < b.length) {
+                if (!buf.hasRemaining()) flush();
+                int n = Math.min(buf.remaining(), b.length - off);
+                buf.put(b, off, n);
+                off += n;
+            }
+        }
+
+        void putStrings(int n, IndexedString strings) throws IOException {
+            putInt(n);
+            int[] offsets = new int[n + 1];
+            long total = 0;
+            for (int i = 0; i < n; i++) {
+                String s = strings.get(i);
+                byte[] b = (s == null ? "" : s).getBytes(StandardCharsets.UTF_8);
+                putBytes(b);
+                total += b.length;
+                if (total > Integer.MAX_VALUE) throw new IOException("Anlık görüntü string bölümü 2 GB sınırını aşıyor");
+                offsets[i + 1] = (int) total;
+            }
+            for (int o : offsets) putInt(o);
+        }
+
+        void flush() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) position += ch.write(buf, position);
+            buf.clear();
+        }
+    }
+
+    private static int intern(String s, Map<String, Integer> index, List<String> values) {
+        String key = s == null ? "" : s;
+        Integer idx = index.get(key);
+        if (idx == null) {
+            idx = values.size();
+            index.put(key, idx);
+            values.add(key);
+        }
+        return idx;
+    }
+
+    // ---------------- Kaynak parmak izi ----------------
+
+    private SourceFingerprint fingerprint() throws IOException {
+        if (source == null) source = SourceFingerprint.of(jsonPath);
+        return source;
+    }
+}
@@ -1,101 +1,228 @@
 package com.kocaeli.graphcite.parser;
 
+import com.kocaeli.graphcite.metrics.Metrics;
+import com.kocaeli.graphcite.metrics.ParseEvent;
 import com.kocaeli.graphcite.model.Makale;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class JsonParser {
 
+    // Bu boyutun altındaki dosyalarda paralel ayrıştırma kazandırmaz, sıralı yola düşülür
+    private static final long PARALLEL_THRESHOLD = 8L << 20;
+    private static final long MIN_CHUNK_SIZE = 4L << 20;
+    private static final long MAX_CHUNK_SIZE = 256L << 20;
+    // Sınır taraması için dosya bu boyutta pencerelerle map edilir
+    private static final long SCAN_WINDOW = 1L << 30;
+
     /**
      * Verilen dosya yolundaki JSON'ı okur ve Makale listesine çevirir.
+     * Dosya tek String'e okunmaz; {@link JsonTokenizer} kanaldan akış halinde,
+     * tek geçişte byte byte ayrıştırır.
      */
     public static List<Makale> parse(String filePath) throws IOException {
+        long t = Metrics.start();
+        ParseEvent event = new ParseEvent();
+        event.begin();
         List<Makale> makaleler = new ArrayList<>();
 
-        // 1. Dosyayı tek bir String olarak oku
-        String content = Files.readString(Path.of(filePath));
-
-        // 2. Her bir süslü parantezli { ... } bloğunu bul (Regex ile)
-        // Bu regex, en dıştaki obje bloklarını yakalamaya çalışır.
-        Pattern objectPattern = Pattern.compile("\\{[\\s\\S]*?\\}(?=\\s*,|\\s*\\])", Pattern.MULTILINE);
-        Matcher objectMatcher = objectPattern.matcher(content);
-
-        while (objectMatcher.find()) {
-            String jsonObject = objectMatcher.group();
-            // Basit bir kontrol: İçinde "id" yoksa boş bir bloktur, geç.
-            if (!jsonObject.contains("\"id\"")) continue;
-
-            Makale makale = new Makale();
-
-            // --- ID Çekme ---
-            makale.setId(extractString(jsonObject, "id"));
-
-            // --- Title Çekme ---
-            makale.setTitle(extractString(jsonObject, "title"));
-
-            // --- DOI Çekme ---
-            makale.setDoi(extractString(jsonObject, "doi"));
-
-            // --- Year Çekme (Sayısal) ---
-            makale.setYear(extractInt(jsonObject, "year"));
-
-            // --- Authors (Liste) Çekme ---
-            makale.setAuthors(extractList(jsonObject, "authors"));
-
-            // --- Referenced Works (Liste) Çekme ---
-            makale.setReferencedWorkIds(extractList(jsonObject, "referenced_works"));
-
-            makaleler.add(makale);
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            new JsonTokenizer(channel).readArray(makaleler);
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = filePath;
+            event.bytes = Path.of(filePath).toFile().length();
+            event.parallel = false;
+            event.corpusSize = makaleler.size();
+            event.commit();
+        }
+        Metrics.stop("parser.parse", t);
+        Metrics.count("parser.papers", makaleler.size());
         return makaleler;
     }
 
-    // Helper: "key": "value" formatındaki string değeri çeker
-    private static String extractString(String json, String key) {
-        Pattern p = Pattern.compile("\"" + key + "\"\\s*:\\s*\"(.*?)\"");
-        Matcher m = p.matcher(json);
-        return m.find() ? m.group(1) : "";
-    }
+    /**
+     * Büyük dosyalar için paralel ayrıştırma.
+     * Dosya memory-map edilir, üst seviye dizi obje sınırlarından parçalara bölünür,
+     * her parça bir ForkJoin işçisinde ayrıştırılır ve sonuçlar dosya sırasıyla birleştirilir.
+     * Aynı tokenizer kullanıldığı için çıktı {@link #parse(String)} ile birebir aynıdır.
+     */
+    public static List<Makale> parseParallel(String filePath) throws IOException {
+        long t = Metrics.start();
+        // Küçük dosyada sıralı yola düşülürse olayı parse() kaydeder
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < PARALLEL_THRESHOLD || pool.getParallelism() < 2) {
+                return parse(filePath);
+            }
 
-    // Helper: "key": 2024 formatındaki int değeri çeker
-    private static int extractInt(String json, String key) {
-        Pattern p = Pattern.compile("\"" + key + "\"\\s*:\\s*(\\d+)");
-        Matcher m = p.matcher(json);
-        if (m.find()) {
-            try {
-                return Integer.parseInt(m.group(1));
-            } catch (NumberFormatException e) {
-                return 0;
+            long targetChunk = Math.max(MIN_CHUNK_SIZE,
+                    Math.min(MAX_CHUNK_SIZE, size / (pool.getParallelism() * 4L)));
+            List<Makale> makaleler = parseChunked(channel, size, targetChunk, pool);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = filePath;
+                event.bytes = size;
+                event.parallel = true;
+                event.corpusSize = makaleler.size();
+                event.commit();
             }
+            Metrics.stop("parser.parseParallel", t);
+            Metrics.count("parser.papers", makaleler.size());
+            return makaleler;
         }
-        return 0;
     }
 
-    // Helper: "key": [ "a", "b", "c" ] formatındaki listeyi çeker
-    private static List<String> extractList(String json, String key) {
-        List<String> list = new ArrayList<>();
-
-        // Önce köşeli parantez içini bul: "authors": [ ... ]
-        Pattern listPattern = Pattern.compile("\"" + key + "\"\\s*:\\s*\\[(.*?)\\]", Pattern.DOTALL);
-        Matcher listMatcher = listPattern.matcher(json);
+    /**
+     * Kanalı findChunkBounds sınırlarından yaklaşık targetChunk boyutlu parçalara böler ve parçaları
+     * pool'da ayrıştırır. parseParallel'ın çekirdeği; testler küçük parça boyutuyla doğrudan çağırır.
+     */
+    static List<Makale> parseChunked(FileChannel channel, long size, long targetChunk, ForkJoinPool pool) throws IOException {
+        List<Long> bounds = findChunkBounds(channel, size, targetChunk);
+
+        List<Callable<List<Makale>>> tasks = new ArrayList<>();
+        for (int i = 0; i + 1 < bounds.size(); i++) {
+            long start = bounds.get(i);
+            long length = bounds.get(i + 1) - start;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Tek bir JSON objesi çok büyük (konum " + start + ")");
+            }
+            tasks.add(() -> {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                List<Makale> part = new ArrayList<>();
+                new JsonTokenizer(region).readObjectSequence(part);
+                return part;
+            });
+        }
 
-        if (listMatcher.find()) {
-            String contentInsideBrackets = listMatcher.group(1);
+        List<List<Makale>> parts = new ArrayList<>();
+        try {
+            for (Future<List<Makale>> f : pool.invokeAll(tasks)) parts.add(f.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Paralel ayrıştırma kesildi", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException("Paralel ayrıştırma hatası: " + cause, cause);
+        }
 
-            // Tırnak içindeki her şeyi yakala: "Ali Veli"
-            Pattern itemPattern = Pattern.compile("\"(.*?)\"");
-            Matcher itemMatcher = itemPattern.matcher(contentInsideBrackets);
+        int total = 0;
+        for (List<Makale> part : parts) total += part.size();
+        List<Makale> makaleler = new ArrayList<>(total);
+        for (List<Makale> part : parts) makaleler.addAll(part);
+        Metrics.record("parser.parseParallel.chunks", parts.size());
+        return makaleler;
+    }
 
-            while (itemMatcher.find()) {
-                list.add(itemMatcher.group(1));
+    /**
+     * Dosyayı yalnızca yapısal durumu (string içi mi, kaçış, derinlik) izleyerek tarar ve
+     * üst seviye dizideki obje başlangıçlarından yaklaşık targetChunk aralıklı sınırlar seçer.
+     * Dönen liste: ilk objenin başlangıcı, ara sınırlar ve kapanış ']' konumu.
+     * String içindeki '{' / ',' karakterleri durum izlendiği için yanlış sınır üretmez.
+     * Üst seviye dizinin ayırıcıları da burada doğrulanır (parçalar kendi sınırlarını göremez):
+     * dizide sadece objeler olabilir, objeler arasında tam bir ',' olmalı, sondaki ',' reddedilir.
+     * Böylece paralel yol, parse()'ın reddettiği girdiyi kabul etmez.
+     */
+    private static List<Long> findChunkBounds(FileChannel channel, long size, long targetChunk) throws IOException {
+        List<Long> bounds = new ArrayList<>();
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean arrayClosed = false;
+        // Üst seviye dizide bir sonraki değer (obje) mi, ',' / ']' mi bekleniyor
+        boolean expectValue = true;
+        boolean anyValue = false;
+        long nextTarget = 0;
+
+        for (long base = 0; base < size; base += SCAN_WINDOW) {
+            long len = Math.min(SCAN_WINDOW, size - base);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, base, len);
+
+            for (int i = 0; i < len; i++) {
+                byte c = window.get(i);
+                if (inString) {
+                    if (escaped) escaped = false;
+                    else if (c == '\\') escaped = true;
+                    else if (c == '"') inString = false;
+                    continue;
+                }
+                if (depth == 1 && c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                    long pos = base + i;
+                    if (c == '{') {
+                        if (!expectValue) throw new IOException("Geçersiz JSON (konum " + pos + "): ',' bekleniyordu");
+                        expectValue = false;
+                        anyValue = true;
+                    } else if (c == ',') {
+                        if (expectValue) throw new IOException("Geçersiz JSON (konum " + pos + "): ',' öncesinde obje yok");
+                        expectValue = true;
+                    } else if (c == ']') {
+                        if (expectValue && anyValue) {
+                            throw new IOException("Geçersiz JSON (konum " + pos + "): dizi sonunda fazladan ','");
+                        }
+                    } else {
+                        throw new IOException("Geçersiz JSON (konum " + pos + "): üst seviye dizide sadece obje olabilir");
+                    }
+                }
+                switch (c) {
+                    case '"':
+                        inString = true;
+                        break;
+                    case '{':
+                    case '[':
+                        if (depth == 0 && (c != '[' || arrayClosed || !bounds.isEmpty())) {
+                            throw new IOException("Geçersiz JSON (konum " + (base + i) + "): üst seviye dizi bekleniyordu");
+                        }
+                        if (depth == 1 && c == '{' && base + i >= nextTarget) {
+                            bounds.add(base + i);
+                            nextTarget = base + i + targetChunk;
+                        }
+                        depth++;
+                        break;
+                    case '}':
+                    case ']':
+                        depth--;
+                        if (depth < 0) {
+                            throw new IOException("Geçersiz JSON (konum " + (base + i) + "): fazladan kapanış");
+                        }
+                        if (depth == 0) {
+                            if (c != ']' || arrayClosed) {
+                                throw new IOException("Geçersiz JSON (konum " + (base + i) + "): üst seviye dizi bekleniyordu");
+                            }
+                            arrayClosed = true;
+                            bounds.add(base + i);
+                        }
+                        break;
+                    case ' ':
+                    case '\n':
+                    case '\r':
+                    case '\t':
+                        break;
+                    default:
+                        if (depth == 0) {
+                            throw new IOException("Geçersiz JSON (konum " + (base + i) + "): dizi dışında beklenmeyen karakter");
+                        }
+                }
             }
         }
-        return list;
+
+        if (!arrayClosed) throw new IOException("Geçersiz JSON: üst seviye dizi kapanmadan dosya bitti");
+        return bounds;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,401 @@
+package com.kocaeli.graphcite.parser;
+
+import com.kocaeli.graphcite.model.Makale;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * data.json için tek geçişlik, byte tabanlı (UTF-8) akış tokenizer'ı.
+ * Dosyayı tek String'e çevirmeden, tampon kanaldan okuyarak Makale nesnelerini doğrudan üretir.
+ * Alan değerleri byte olarak tek bir karalama tamponunda biriktirilir ve yalnızca
+ * bir kez String'e dönüştürülür; bilinmeyen anahtarlar (keywords, in_json_reference_count, ...) kopyalanmadan atlanır.
+ */
+final class JsonTokenizer {
+
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private static final byte[] KEY_ID = ascii("id");
+    private static final byte[] KEY_TITLE = ascii("title");
+    private static final byte[] KEY_DOI = ascii("doi");
+    private static final byte[] KEY_VENUE = ascii("venue");
+    private static final byte[] KEY_YEAR = ascii("year");
+    private static final byte[] KEY_AUTHORS = ascii("authors");
+    private static final byte[] KEY_REFERENCED_WORKS = ascii("referenced_works");
+
+    // Girdi kaynağı: ya kanal ya da bellekteki bir bölge; ikisi de buf dizisine blok blok kopyalanır
+    private final ReadableByteChannel channel;
+    private final ByteBuffer source;
+    private final ByteBuffer window;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long consumed; // buf'tan önce okunmuş byte sayısı (hata konumu için)
+
+    private byte[] scratch = new byte[256];
+    private int scratchLength;
+
+    /** Kanaldan BUFFER_SIZE'lık parçalar halinde okuyan tokenizer. */
+    JsonTokenizer(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.source = null;
+        this.window = ByteBuffer.wrap(buf);
+    }
+
+    /** Bellekteki (ör. memory-mapped) bir bölgeyi baştan sona okuyan tokenizer. */
+    JsonTokenizer(ByteBuffer input) {
+        this.channel = null;
+        this.source = input;
+        this.window = null;
+    }
+
+    /**
+     * Üst seviye diziyi okur: [ {...}, {...} ].
+     */
+    void readArray(List<Makale> out) throws IOException {
+        skipWhitespace();
+        expect('[');
+        skipWhitespace();
+        if (peek() == ']') {
+            next();
+        } else {
+            while (true) {
+                readMakale(out);
+                skipWhitespace();
+                int c = next();
+                if (c == ']') break;
+                if (c != ',') throw error("',' veya ']' bekleniyordu", c);
+                skipWhitespace();
+            }
+        }
+        skipWhitespace();
+        if (peek() != -1) throw error("dizi sonrasında beklenmeyen karakter", peek());
+    }
+
+    /**
+     * Virgülle ayrılmış obje dizisini okur: {...}, {...}
+     * (köşeli parantezsiz; paralel ayrıştırmada bir parçanın içeriği).
+     */
+    void readObjectSequence(List<Makale> out) throws IOException {
+        skipWhitespace();
+        while (peek() != -1) {
+            readMakale(out);
+            skipWhitespace();
+            int c = peek();
+            if (c == -1) break;
+            if (c != ',') throw error("',' bekleniyordu", c);
+            next();
+            skipWhitespace();
+        }
+    }
+
+    // Tek bir { ... } objesini okur; "id" alanı olmayan objeler listeye eklenmez.
+    private void readMakale(List<Makale> out) throws IOException {
+        expect('{');
+        Makale makale = new Makale();
+        makale.setTitle("");
+        makale.setDoi("");
+        makale.setVenue("");
+        String id = null;
+
+        skipWhitespace();
+        if (peek() == '}') {
+            next();
+            return;
+        }
+
+        while (true) {
+            skipWhitespace();
+            expect('"');
+            readStringBytes();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+
+            if (keyEquals(KEY_ID)) {
+                String v = readNullableString();
+                if (v != null) id = v;
+            } else if (keyEquals(KEY_TITLE)) {
+                String v = readNullableString();
+                makale.setTitle(v == null ? "" : v);
+            } else if (keyEquals(KEY_DOI)) {
+                String v = readNullableString();
+                makale.setDoi(v == null ? "" : v);
+            } else if (keyEquals(KEY_VENUE)) {
+                String v = readNullableString();
+                makale.setVenue(v == null ? "" : v);
+            } else if (keyEquals(KEY_YEAR)) {
+                makale.setYear(readInt());
+            } else if (keyEquals(KEY_AUTHORS)) {
+                makale.setAuthors(readStringList());
+            } else if (keyEquals(KEY_REFERENCED_WORKS)) {
+                makale.setReferencedWorkIds(readStringList());
+            } else {
+                skipValue();
+            }
+
+            skipWhitespace();
+            int c = next();
+            if (c == '}') break;
+            if (c != ',') throw error("',' veya '}' bekleniyordu", c);
+        }
+
+        if (id == null) return;
+        makale.setId(id);
+        out.add(makale);
+    }
+
+    // ---------------- Değer okuyucular ----------------
+
+    private String readNullableString() throws IOException {
+        int c = peek();
+        if (c == '"') {
+            next();
+            readStringBytes();
+            return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+        }
+        skipValue();
+        return null;
+    }
+
+    private List<String> readStringList() throws IOException {
+        List<String> list = new ArrayList<>();
+        if (peek() != '[') {
+            skipValue();
+            return list;
+        }
+        next();
+        skipWhitespace();
+        if (peek() == ']') {
+            next();
+            return list;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() == '"') {
+                next();
+                readStringBytes();
+                list.add(new String(scratch, 0, scratchLength, StandardCharsets.UTF_8));
+            } else {
+                skipValue();
+            }
+            skipWhitespace();
+            int c = next();
+            if (c == ']') break;
+            if (c != ',') throw error("',' veya ']' bekleniyordu", c);
+        }
+        return list;
+    }
+
+    // Sayısal değeri okur; null, metin veya int aralığı dışındaki değerler 0 kabul edilir.
+    private int readInt() throws IOException {
+        int c = peek();
+        if (c != '-' && (c < '0' || c > '9')) {
+            skipValue();
+            return 0;
+        }
+        boolean negative = false;
+        if (c == '-') {
+            negative = true;
+            next();
+        }
+        long value = 0;
+        boolean overflow = false;
+        while ((c = peek()) >= '0' && c <= '9') {
+            next();
+            if (!overflow) {
+                value = value * 10 + (c - '0');
+                if (value > Integer.MAX_VALUE) overflow = true;
+            }
+        }
+        // Kesirli / üslü kısım varsa atla (2003.0, 2e3 gibi)
+        while ((c = peek()) == '.' || c == 'e' || c == 'E' || c == '+' || c == '-' || (c >= '0' && c <= '9')) {
+            next();
+        }
+        if (overflow) return 0;
+        return (int) (negative ? -value : value);
+    }
+
+    /**
+     * Açılış tırnağı tüketilmiş bir string'i kapanış tırnağına kadar scratch tamponuna okur.
+     * Kaçış dizileri çözülür; diğer byte'lar (UTF-8 çok byte'lı karakterler dahil) olduğu gibi kopyalanır.
+     */
+    private void readStringBytes() throws IOException {
+        scratchLength = 0;
+        while (true) {
+            int c = next();
+            if (c == '"') return;
+            if (c == -1) throw error("string kapanmadan dosya bitti", c);
+            if (c == '\\') {
+                readEscape();
+            } else {
+                append((byte) c);
+            }
+        }
+    }
+
+    private void readEscape() throws IOException {
+        int c = next();
+        switch (c) {
+            case '"': append((byte) '"'); break;
+            case '\\': append((byte) '\\'); break;
+            case '/': append((byte) '/'); break;
+            case 'b': append((byte) '\b'); break;
+            case 'f': append((byte) '\f'); break;
+            case 'n': append((byte) '\n'); break;
+            case 'r': append((byte) '\r'); break;
+            case 't': append((byte) '\t'); break;
+            case 'u': {
+                int cp = readHex4();
+                if (Character.isHighSurrogate((char) cp) && peek() == '\\') {
+                    next();
+                    if (next() != 'u') throw error("geçersiz surrogate çifti", c);
+                    int low = readHex4();
+                    cp = Character.isLowSurrogate((char) low)
+                            ? Character.toCodePoint((char) cp, (char) low)
+                            : '?';
+                }
+                appendCodePoint(cp);
+                break;
+            }
+            default:
+                throw error("geçersiz kaçış dizisi", c);
+        }
+    }
+
+    private int readHex4() throws IOException {
+        int v = 0;
+        for (int i = 0; i < 4; i++) {
+            int c = next();
+            int d = Character.digit(c, 16);
+            if (c == -1 || d < 0) throw error("geçersiz \\u kaçışı", c);
+            v = (v << 4) | d;
+        }
+        return v;
+    }
+
+    private void appendCodePoint(int cp) {
+        if (Character.isSurrogate((char) cp) && cp <= 0xFFFF) cp = '?'; // eşsiz surrogate
+        if (cp < 0x80) {
+            append((byte) cp);
+        } else if (cp < 0x800) {
+            append((byte) (0xC0 | (cp >> 6)));
+            append((byte) (0x80 | (cp & 0x3F)));
+        } else if (cp < 0x10000) {
+            append((byte) (0xE0 | (cp >> 12)));
+            append((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            append((byte) (0x80 | (cp & 0x3F)));
+        } else {
+            append((byte) (0xF0 | (cp >> 18)));
+            append((byte) (0x80 | ((cp >> 12) & 0x3F)));
+            append((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            append((byte) (0x80 | (cp & 0x3F)));
+        }
+    }
+
+    private void append(byte b) {
+        if (scratchLength == scratch.length) scratch = Arrays.copyOf(scratch, scratch.length * 2);
+        scratch[scratchLength++] = b;
+    }
+
+    private boolean keyEquals(byte[] key) {
+        return Arrays.equals(scratch, 0, scratchLength, key, 0, key.length);
+    }
+
+    // Herhangi bir JSON değerini (obje, dizi, string, sayı, literal) kopyalamadan atlar.
+    private void skipValue() throws IOException {
+        int c = next();
+        switch (c) {
+            case '"':
+                skipString();
+                return;
+            case '{':
+            case '[': {
+                int depth = 1;
+                while (depth > 0) {
+                    c = next();
+                    if (c == -1) throw error("obje/dizi kapanmadan dosya bitti", c);
+                    if (c == '"') skipString();
+                    else if (c == '{' || c == '[') depth++;
+                    else if (c == '}' || c == ']') depth--;
+                }
+                return;
+            }
+            default:
+                if (c == -1) throw error("değer bekleniyordu", c);
+                // sayı veya true/false/null: ayraç gelene kadar ilerle
+                while ((c = peek()) != -1 && c != ',' && c != '}' && c != ']' && !isWhitespace(c)) {
+                    next();
+                }
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            int c = next();
+            if (c == '"') return;
+            if (c == -1) throw error("string kapanmadan dosya bitti", c);
+            if (c == '\\') next();
+        }
+    }
+
+    // ---------------- Byte erişimi ----------------
+
+    private int peek() throws IOException {
+        if (pos == limit && !fill()) return -1;
+        return buf[pos] & 0xFF;
+    }
+
+    private int next() throws IOException {
+        if (pos == limit && !fill()) return -1;
+        return buf[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        consumed += limit;
+        pos = 0;
+        limit = 0;
+        if (source != null) {
+            int n = Math.min(buf.length, source.remaining());
+            source.get(buf, 0, n);
+            limit = n;
+        } else {
+            window.clear();
+            int n;
+            do {
+                n = channel.read(window);
+            } while (n == 0);
+            if (n > 0) limit = n;
+        }
+        return limit > 0;
+    }
+
+    private void skipWhitespace() throws IOException {
+        int c;
+        while ((c = peek()) != -1 && isWhitespace(c)) next();
+    }
+
+    private void expect(char expected) throws IOException {
+        int c = next();
+        if (c != expected) throw error("'" + expected + "' bekleniyordu", c);
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private IOException error(String message, int found) {
+        long offset = consumed + pos;
+        String what = found == -1 ? "dosya sonu" : "'" + (char) found + "'";
+        return new IOException("Geçersiz JSON (konum " + offset + "): " + message + ", bulunan: " + what);
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
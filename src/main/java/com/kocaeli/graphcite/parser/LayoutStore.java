@@ -0,0 +1,99 @@
+package com.kocaeli.graphcite.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Önceden hesaplanmış düğüm koordinatlarının korpusun yanında ("data.json.layout") saklanması.
+ * Koordinatlar makale indeksi sırasıyla (x0, y0, x1, y1, ...) float olarak yazılır.
+ *
+ * Dosya düzeni (big-endian):
+ *   başlık: magic, sürüm, kaynak boyutu, kaynak mtime, kaynak CRC32C, makale sayısı
+ *   gövde: float[2 * makale sayısı]
+ * data.json değişirse veya makale sayısı tutmazsa layout geçersiz sayılır.
+ */
+public class LayoutStore {
+
+    private static final long MAGIC = 0x47434C41594F5431L; // "GCLAYOT1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8 + 4 + 8 + 8 + 8 + 4;
+
+    private final Path jsonPath;
+    private final Path layoutPath;
+
+    public LayoutStore(Path jsonPath) {
+        this.jsonPath = jsonPath;
+        this.layoutPath = jsonPath.resolveSibling(jsonPath.getFileName() + ".layout");
+    }
+
+    public Path getLayoutPath() {
+        return layoutPath;
+    }
+
+    /**
+     * Geçerli bir layout varsa koordinatları döndürür (uzunluk 2 * count).
+     * Dosya yoksa, kaynak değişmişse, sayı tutmuyorsa veya dosya bozuksa null döner.
+     */
+    public float[] read(int count) throws IOException {
+        if (!Files.isRegularFile(layoutPath)) return null;
+        SourceFingerprint fp = SourceFingerprint.of(jsonPath);
+
+        try (FileChannel ch = FileChannel.open(layoutPath, StandardOpenOption.READ)) {
+            long expected = HEADER_SIZE + 8L * count;
+            if (ch.size() != expected) return null;
+
+            ByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, expected);
+            if (buf.getLong() != MAGIC || buf.getInt() != VERSION) return null;
+            if (!fp.matches(buf.getLong(), buf.getLong(), buf.getLong())) return null;
+            if (buf.getInt() != count) return null;
+
+            float[] xy = new float[2 * count];
+            buf.asFloatBuffer().get(xy);
+            return xy;
+        } catch (RuntimeException e) {
+            // Bozuk/yarım dosya -> geçersiz say
+            return null;
+        }
+    }
+
+    /** Koordinatları yazar; önce geçici dosyaya, sonra atomik taşıma ile yerine. */
+    public void write(float[] xy) throws IOException {
+        SourceFingerprint fp = SourceFingerprint.of(jsonPath);
+        int count = xy.length / 2;
+
+        Path tmp = layoutPath.resolveSibling(layoutPath.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putLong(MAGIC).putInt(VERSION)
+                    .putLong(fp.size).putLong(fp.mtime).putLong(fp.crc)
+                    .putInt(count);
+            header.flip();
+            while (header.hasRemaining()) ch.write(header);
+
+            ByteBuffer body = ByteBuffer.allocate(1 << 20);
+            FloatBuffer floats = body.asFloatBuffer();
+            int off = 0;
+            while (off < 2 * count) {
+                int n = Math.min(floats.capacity(), 2 * count - off);
+                floats.clear();
+                floats.put(xy, off, n);
+                body.clear().limit(4 * n);
+                while (body.hasRemaining()) ch.write(body);
+                off += n;
+            }
+            ch.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        Files.move(tmp, layoutPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
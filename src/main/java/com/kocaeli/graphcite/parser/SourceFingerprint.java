@@ -0,0 +1,69 @@
+package com.kocaeli.graphcite.parser;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Kaynak JSON dosyasının parmak izi: boyut, değiştirilme zamanı ve içerik özeti (CRC32C).
+ * data.json'dan türetilen dosyalar (anlık görüntü, layout) bu üçlüyü başlıklarına yazar;
+ * biri değişirse türetilmiş dosya geçersiz sayılır.
+ * Aynı işlem içinde dosya değişmediyse özet bir kez hesaplanır.
+ */
+final class SourceFingerprint {
+
+    private static final long HASH_WINDOW = 1L << 30;
+    private static final Map<Path, SourceFingerprint> CACHE = new HashMap<>();
+
+    final long size;
+    final long mtime;
+    final long crc;
+
+    private SourceFingerprint(long size, long mtime, long crc) {
+        this.size = size;
+        this.mtime = mtime;
+        this.crc = crc;
+    }
+
+    static SourceFingerprint of(Path path) throws IOException {
+        Path key = path.toAbsolutePath().normalize();
+        long size = Files.size(path);
+        long mtime = Files.getLastModifiedTime(path).toMillis();
+        synchronized (CACHE) {
+            SourceFingerprint cached = CACHE.get(key);
+            if (cached != null && cached.size == size && cached.mtime == mtime) return cached;
+        }
+
+        CRC32C crc = new CRC32C();
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (long base = 0; base < size; base += HASH_WINDOW) {
+                crc.update(ch.map(FileChannel.MapMode.READ_ONLY, base, Math.min(HASH_WINDOW, size - base)));
+            }
+        }
+        SourceFingerprint fp = new SourceFingerprint(size, mtime, crc.getValue());
+        synchronized (CACHE) {
+            CACHE.put(key, fp);
+        }
+        return fp;
+    }
+
+    /**
+     * Önbelleği boşaltır: sonraki of() çağrıları özeti yeniden hesaplar. Önbellek boyut + mtime'a
+     * güvendiği için aynı işlem içindeki aynı boyutlu, aynı mtime'lı bir değişikliği göremez;
+     * testler başka bir işlemin dosyayı değiştirmesini bununla taklit eder.
+     */
+    static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    boolean matches(long size, long mtime, long crc) {
+        return this.size == size && this.mtime == mtime && this.crc == crc;
+    }
+}
@@ -0,0 +1,219 @@
+package com.kocaeli.graphcite.parser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+
+/**
+ * data.json ile uyumlu, deterministik (seed'li) sentetik atıf korpusu üretir.
+ *
+ * Yapı:
+ * - Yıllar: yıllık makale sayısı üstel büyür; makaleler yıl sırasıyla (ve artan id ile) yazılır.
+ * - Atıflar: bir makale sadece önceki yıllardaki makalelere atıf yapar. Hedeflerin çoğu tercihli
+ *   bağlanmayla (daha önce atıf almış makalelerden, atıf sayısıyla orantılı) seçilir, kalanı
+ *   önceki makaleler arasından düzgün dağılımla. Referans sayısı log-normal dağılır.
+ * - Yazar sayısı kuvvet yasasıyla (çoğu makalede 1-4 yazar, az sayıda çok yazarlı makale),
+ *   yazarlar, venue'ler ve anahtar kelimeler Zipf dağılımıyla havuzlardan seçilir.
+ *
+ * Çıktı akış halinde yazılır; bellek kullanımı makale sayısından bağımsızdır. Tercihli bağlanma
+ * için tüm atıf listesi yerine sabit boyutlu bir rezervuar örneklemi tutulur (atıf sayısıyla orantılı
+ * seçimin sınırlı bellekte yaklaşığı). Aynı seed ve makale sayısı her zaman aynı dosyayı üretir.
+ */
+public final class SyntheticCorpusGenerator {
+
+    private static final int START_YEAR = 1970;
+    private static final int END_YEAR = 2024;
+    private static final double YEARLY_GROWTH = 0.06;
+    private static final long ID_BASE = 1_000_000_000L;
+
+    private static final double PREFERENTIAL_SHARE = 0.7;
+    private static final int RESERVOIR_SIZE = 1 << 22;
+    private static final double REFERENCES_LOG_MEAN = Math.log(12);
+    private static final double REFERENCES_LOG_SD = 0.8;
+    private static final int MAX_REFERENCES = 200;
+
+    private static final double AUTHOR_COUNT_EXPONENT = 2.5;
+    private static final int MAX_AUTHORS = 50;
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final int VENUE_POOL = 5_000;
+    private static final int KEYWORD_POOL = 20_000;
+    private static final int MAX_KEYWORDS = 12;
+
+    private static final String[] FIELDS = {
+            "Computer", "Food", "Materials", "Neural", "Quantum", "Medical", "Environmental", "Statistical",
+            "Chemical", "Mechanical", "Molecular", "Social", "Economic", "Optical", "Agricultural", "Cognitive"
+    };
+    private static final String[] TOPICS = {
+            "vision", "science", "engineering", "networks", "computing", "imaging", "analysis", "learning",
+            "systems", "modeling", "biology", "physics", "processing", "design", "chemistry", "control",
+            "sensing", "dynamics", "informatics", "optimization"
+    };
+
+    private final int paperCount;
+    private final long seed;
+
+    public SyntheticCorpusGenerator(int paperCount, long seed) {
+        if (paperCount < 0) throw new IllegalArgumentException("paperCount negatif olamaz: " + paperCount);
+        this.paperCount = paperCount;
+        this.seed = seed;
+    }
+
+    /** Dosyaya yazar (önce geçici dosyaya, sonra atomik taşıma). */
+    public void write(Path file, LongConsumer onProgress) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer w = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(tmp), StandardCharsets.UTF_8), 1 << 20)) {
+            write(w, onProgress);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Korpusu JSON dizisi olarak yazar. onProgress (null olabilir) her 100 000 makalede
+     * yazılan makale sayısıyla çağrılır.
+     */
+    public void write(Writer out, LongConsumer onProgress) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] yearStart = yearStarts();
+        int[] reservoir = new int[(int) Math.min(RESERVOIR_SIZE, Math.max(1L, (long) paperCount * 4))];
+        long citationsSeen = 0;
+        int[] refs = new int[MAX_REFERENCES];
+        StringBuilder sb = new StringBuilder(1024);
+
+        out.write("[\n");
+        int year = START_YEAR;
+        for (int i = 0; i < paperCount; i++) {
+            while (year < END_YEAR && i >= yearStart[year + 1 - START_YEAR]) year++;
+            // Sadece önceki yıllardaki makaleler atıf alabilir
+            int older = yearStart[year - START_YEAR];
+
+            int refCount = older == 0 ? 0 : Math.min(Math.min(older, MAX_REFERENCES),
+                    (int) Math.round(Math.exp(REFERENCES_LOG_MEAN + REFERENCES_LOG_SD * gaussian(random))));
+            int filled = 0;
+            int attempts = 0;
+            while (filled < refCount && attempts++ < refCount * 4) {
+                int t;
+                if (citationsSeen > 0 && random.nextDouble() < PREFERENTIAL_SHARE) {
+                    t = reservoir[random.nextInt((int) Math.min(citationsSeen, reservoir.length))];
+                } else {
+                    t = random.nextInt(older);
+                }
+                if (contains(refs, filled, t)) continue;
+                refs[filled++] = t;
+            }
+            // Rezervuar örnekleme: şimdiye kadarki tüm atıflardan düzgün örnek = atıf sayısıyla orantılı seçim
+            for (int r = 0; r < filled; r++) {
+                citationsSeen++;
+                if (citationsSeen <= reservoir.length) {
+                    reservoir[(int) (citationsSeen - 1)] = refs[r];
+                } else {
+                    long slot = random.nextLong(citationsSeen);
+                    if (slot < reservoir.length) reservoir[(int) slot] = refs[r];
+                }
+            }
+
+            sb.setLength(0);
+            if (i > 0) sb.append(",\n");
+            appendPaper(sb, random, i, year, refs, filled);
+            out.append(sb);
+
+            if (onProgress != null && (i + 1) % 100_000 == 0) onProgress.accept(i + 1);
+        }
+        out.write("\n]\n");
+        if (onProgress != null && paperCount % 100_000 != 0) onProgress.accept(paperCount);
+    }
+
+    private void appendPaper(StringBuilder sb, SplittableRandom random, int i, int year, int[] refs, int refCount) {
+        int venue = zipf(random, VENUE_POOL);
+        int keywordCount = 1 + random.nextInt(MAX_KEYWORDS);
+        int firstKeyword = zipf(random, KEYWORD_POOL);
+
+        sb.append("{\"id\":\"https://openalex.org/W").append(ID_BASE + i).append('"');
+        sb.append(",\"doi\":\"https://doi.org/10.5555/synthetic.").append(i).append('"');
+        sb.append(",\"title\":\"").append(keyword(firstKeyword)).append(" study ").append(i).append('"');
+        sb.append(",\"year\":").append(year);
+
+        sb.append(",\"authors\":[");
+        int authors = authorCount(random);
+        int authorPool = Math.max(1, paperCount / 2);
+        for (int a = 0; a < authors; a++) {
+            if (a > 0) sb.append(',');
+            sb.append("\"Author ").append(zipf(random, authorPool)).append('"');
+        }
+        sb.append(']');
+
+        sb.append(",\"venue\":\"Journal of ").append(keyword(venue)).append('"');
+
+        sb.append(",\"keywords\":[\"").append(keyword(firstKeyword)).append('"');
+        for (int k = 1; k < keywordCount; k++) {
+            sb.append(",\"").append(keyword(zipf(random, KEYWORD_POOL))).append('"');
+        }
+        sb.append(']');
+
+        sb.append(",\"referenced_works\":[");
+        for (int r = 0; r < refCount; r++) {
+            if (r > 0) sb.append(',');
+            sb.append("\"https://openalex.org/W").append(ID_BASE + refs[r]).append('"');
+        }
+        sb.append("]}");
+    }
+
+    /** Her yılın ilk makale indeksi; yıllık sayı üstel büyür. Dizi boyutu yıl sayısı + 1. */
+    private int[] yearStarts() {
+        int years = END_YEAR - START_YEAR + 1;
+        double[] weight = new double[years];
+        double sum = 0;
+        for (int y = 0; y < years; y++) {
+            weight[y] = Math.exp(YEARLY_GROWTH * y);
+            sum += weight[y];
+        }
+        int[] start = new int[years + 1];
+        double acc = 0;
+        for (int y = 0; y < years; y++) {
+            start[y] = (int) Math.round(paperCount * acc / sum);
+            acc += weight[y];
+        }
+        start[years] = paperCount;
+        return start;
+    }
+
+    /** P(k) ∝ k^-α (k ≥ 1), sürekli Pareto'nun tersinden. */
+    private static int authorCount(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        int k = (int) Math.floor(Math.pow(u, -1.0 / (AUTHOR_COUNT_EXPONENT - 1.0)));
+        return Math.max(1, Math.min(MAX_AUTHORS, k));
+    }
+
+    /** [0, n) aralığında yaklaşık Zipf(s) sıra numarası (sürekli kuvvet yasasının tersi, O(1)). */
+    private static int zipf(SplittableRandom random, int n) {
+        double u = random.nextDouble();
+        double a = 1.0 - ZIPF_EXPONENT;
+        double x = Math.pow((Math.pow(n + 1.0, a) - 1.0) * u + 1.0, 1.0 / a);
+        return Math.max(0, Math.min(n - 1, (int) x - 1));
+    }
+
+    private static String keyword(int rank) {
+        String field = FIELDS[rank % FIELDS.length];
+        String topic = TOPICS[(rank / FIELDS.length) % TOPICS.length];
+        int variant = rank / (FIELDS.length * TOPICS.length);
+        return variant == 0 ? field + " " + topic : field + " " + topic + " " + (variant + 1);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box–Muller
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private static boolean contains(int[] a, int len, int v) {
+        for (int i = 0; i < len; i++) if (a[i] == v) return true;
+        return false;
+    }
+}
@@ -1,10 +1,17 @@
 package com.kocaeli.graphcite.ui;
 
+import com.kocaeli.graphcite.graph.BetweennessEstimate;
+import com.kocaeli.graphcite.graph.BibliometricTable;
+import com.kocaeli.graphcite.graph.GraphDelta;
 import com.kocaeli.graphcite.graph.GraphManager;
+import com.kocaeli.graphcite.graph.LevelOfDetail;
 import com.kocaeli.graphcite.graph.GraphAlgorithms;
+import com.kocaeli.graphcite.metrics.Metrics;
 import com.kocaeli.graphcite.model.Makale;
 import org.graphstream.graph.Graph;
 import org.graphstream.graph.Node;
+import org.graphstream.stream.SinkAdapter;
+import org.graphstream.ui.view.ViewerPipe;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -17,6 +24,8 @@ import java.util.function.Consumer;
 public class ControlPanel extends JPanel {
     private final Color BG_DARK = new Color(15, 23, 42);
     private final Color ACCENT = new Color(37, 99, 235);
+    private static final double APPROX_EPSILON = 0.01;
+    private static final double APPROX_DELTA = 0.1;
 
     private final GraphAlgorithms algorithms;
     private final Graph graph;
@@ -27,8 +36,24 @@ public class ControlPanel extends JPanel {
     private final JTextField txtSearch;
     private final JTextField txtK;
     private final JTextArea txtLog;
-    private final Set<String> inGraph = new HashSet<>();
+    // Grafta bulunan makalelerin IdDictionary indeksleri
+    private final BitSet inGraph = new BitSet();
+    private String selectedId;
+    // Dikdörtgen seçimle işaretlenen makaleler
+    private Set<String> boxSelection = Set.of();
     private Consumer<String> focusHandler;
+    private Consumer<LevelOfDetail.Grouping> groupingHandler;
+    private final CorpusStreamer streamer;
+    private final JButton btnStream;
+    private final JProgressBar streamProgress;
+    private final JLabel lblMaxCore;
+    private final JButton btnBetweenness;
+    private final JButton btnApprox;
+    private final JButton btnKCore;
+    private final JComboBox<LevelOfDetail.Grouping> cmbGrouping;
+    private volatile SwingWorker<Map<String, Double>, BetweennessEstimate> betweennessJob;
+    private volatile String cancelReason;
+    private SwingWorker<BetweennessEstimate, BetweennessEstimate> approxJob;
 
     public ControlPanel(GraphAlgorithms alg, Graph g, GraphManager gm, StatsPanel sp, ArticleInfoPanel ip) {
         this.algorithms = alg;
@@ -73,17 +98,86 @@ public class ControlPanel extends JPanel {
 
         add(new JLabel("k değeri") {{ setForeground(new Color(148,163,184)); setFont(new Font("Segoe UI", Font.PLAIN, 11)); }});
         add(txtK);
+
+        // Çekirdek numaraları açılışta arka planda hesaplanır; hazır olunca dejenerelik gösterilir
+        lblMaxCore = new JLabel("Maks. çekirdek (dejenerelik): hesaplanıyor…") {{ setForeground(new Color(148,163,184)); setFont(new Font("Segoe UI", Font.PLAIN, 11)); }};
+        add(lblMaxCore);
         add(Box.createVerticalStrut(8));
 
-        JButton btnBetweenness = createBtn("Betweenness Centrality", new Color(124, 58, 237));
+        // Analiz düğmeleri indeksler hazır olana kadar kapalı (setAnalysisReady)
+        btnBetweenness = createBtn("Betweenness Centrality", new Color(124, 58, 237));
         btnBetweenness.addActionListener(this::onBetweenness);
+        btnBetweenness.setEnabled(false);
         add(btnBetweenness);
 
         add(Box.createVerticalStrut(8));
 
-        JButton btnKCore = createBtn("K-Core Uygula", new Color(245, 158, 11));
+        btnApprox = createBtn("Yaklaşık Betweenness (Tüm Korpus)", new Color(109, 40, 217));
+        btnApprox.addActionListener(this::onApproximateBetweenness);
+        btnApprox.setEnabled(false);
+        add(btnApprox);
+
+        add(Box.createVerticalStrut(8));
+
+        btnKCore = createBtn("K-Core Uygula", new Color(245, 158, 11));
         btnKCore.addActionListener(this::onKCore);
+        btnKCore.setEnabled(false);
         add(btnKCore);
+
+        add(Box.createVerticalStrut(20));
+        add(createHeader("🌐 KORPUS"));
+
+        streamer = new CorpusStreamer(algorithms, graphManager, inGraph, this::showStreamProgress);
+        btnStream = createBtn("Tüm Korpusu Göster", new Color(13, 148, 136));
+        btnStream.addActionListener(this::onStreamCorpus);
+        add(btnStream);
+
+        streamProgress = new JProgressBar(0, Math.max(1, algorithms.getIds().size()));
+        streamProgress.setStringPainted(true);
+        streamProgress.setString("");
+        streamProgress.setMaximumSize(new Dimension(Integer.MAX_VALUE, 18));
+        add(Box.createVerticalStrut(6));
+        add(streamProgress);
+
+        // Uzaklaştırınca makaleler bu ölçüte göre özet düğümlere toplanır
+        add(Box.createVerticalStrut(8));
+        add(new JLabel("Uzak görünümde grupla") {{ setForeground(new Color(148,163,184)); setFont(new Font("Segoe UI", Font.PLAIN, 11)); }});
+        cmbGrouping = new JComboBox<>(LevelOfDetail.Grouping.values());
+        cmbGrouping.setMaximumSize(new Dimension(Integer.MAX_VALUE, 28));
+        // Çekirdek gruplaması çekirdek numaralarını ister; analiz bitene kadar yıl gruplaması kullanılır
+        cmbGrouping.setEnabled(false);
+        cmbGrouping.addActionListener(e -> {
+            if (groupingHandler != null) groupingHandler.accept((LevelOfDetail.Grouping) cmbGrouping.getSelectedItem());
+        });
+        add(cmbGrouping);
+
+        // Görünen düğüm kümesi değişince (özet düğümler hariç) süren betweenness işi geçersizleşir
+        graph.addSink(new SinkAdapter() {
+            @Override
+            public void nodeAdded(String sourceId, long timeId, String nodeId) {
+                if (!graphManager.isMetaNode(nodeId)) cancelBetweenness("görünen düğümler değişti");
+            }
+
+            @Override
+            public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+                if (!graphManager.isMetaNode(nodeId)) cancelBetweenness("görünen düğümler değişti");
+            }
+        });
+    }
+
+    /** Bibliyometrik tablo ve çekirdek numaraları hazır: analiz düğmeleri açılır. EDT'den çağrılır. */
+    public void setAnalysisReady(int maxCore, long elapsedMs) {
+        lblMaxCore.setText("Maks. çekirdek (dejenerelik): " + maxCore);
+        btnBetweenness.setEnabled(true);
+        btnApprox.setEnabled(true);
+        btnKCore.setEnabled(true);
+        cmbGrouping.setEnabled(true);
+        txtLog.append((txtLog.getText().isEmpty() ? "" : "\n") + "Analiz indeksleri hazır (" + elapsedMs + " ms).");
+    }
+
+    /** Viewer'ın geri yansıttığı olaylar; korpus akışının geri basıncı için kullanılır. */
+    public void attachViewerPipe(ViewerPipe pipe) {
+        streamer.setAckSource(pipe);
     }
 
     private JLabel createHeader(String t) {
@@ -131,33 +225,43 @@ public class ControlPanel extends JPanel {
 
     public void showInfo(Makale m) {
         if (m == null) return;
+        long t = Metrics.start();
         String cid = m.getId();
-        int h = algorithms.calculateHIndex(cid);
-        int med = algorithms.calculateHMedian(cid);
+        // Tablo henüz hazır değilse (açılış ısınması sürüyor) beklenmez: sadece bu makale için O(d) hesap
+        BibliometricTable table = algorithms.getBibliometricsIfReady();
+        int h, med;
+        if (table != null) {
+            h = table.hIndex(m.getIndex());
+            med = table.hMedian(m.getIndex());
+        } else {
+            h = algorithms.calculateHIndex(m.getIndex());
+            med = h == 0 ? 0 : algorithms.calculateHMedian(m.getIndex());
+        }
 
         txtLog.setText("Analiz Raporu\nID: " + cid + "\nH-Index: " + h + "\nH-Median: " + med);
 
-        // Seçilen makaleyi ve h-core'u grafa ekle
-        graphManager.ensureNode(cid);
-        inGraph.add(cid);
-
-        List<Makale> hcore = algorithms.getHCore(cid);
-        for (Makale hc : hcore) {
-            graphManager.ensureNode(hc.getId());
-            inGraph.add(hc.getId());
-        }
-
-        // inGraph içindeki düğümler arasındaki referansları ekle
-        // Bu döngü, yeni eklenen düğümlerle eskiler arasındaki bağlantıları da kurar.
-        for (String from : new HashSet<>(inGraph)) {
-            Makale f = algorithms.getMakale(from);
-            if (f == null) continue;
-            for (String to : f.getReferencedWorkIds()) {
-                if (inGraph.contains(to)) {
-                    graphManager.ensureDirectedEdge(from, to);
-                }
+        // Seçilen makale + h-core: sadece grafta olmayanlar için düğüm ve kenar farkı hesaplanır
+        int[] hcore = algorithms.hCoreIndexes(m.getIndex());
+        int[] wanted = Arrays.copyOf(hcore, hcore.length + 1);
+        wanted[hcore.length] = m.getIndex();
+        // inGraph sadece EDT'den değişir; akış sürüyorsa erken eklenenler akışa bildirilir
+        streamer.markExternal(wanted);
+        GraphDelta delta = GraphDelta.forExpansion(algorithms, inGraph, wanted);
+
+        // Sınıf değişiklikleri düğüm başına tek değere indirgenir (sonuncusu geçerli)
+        // Önceki seçimin işareti sadece hâlâ "selected" ise kaldırılır; sonradan uygulanan
+        // k-core / betweenness vurgusu silinmez
+        if (selectedId != null) {
+            Node previous = graph.getNode(selectedId);
+            if (previous != null && "selected".equals(previous.getAttribute("ui.class"))) {
+                delta.setNodeClass(selectedId, null);
             }
         }
+        for (int hc : hcore) delta.setNodeClass(algorithms.getIds().idOf(hc), "hcore");
+        delta.setNodeClass(cid, "selected");
+        selectedId = cid;
+
+        graphManager.applyDelta(delta);
 
         // timeline (yeşil) kenarlarını yeniden oluştur
         graphManager.rebuildTimelineEdges();
@@ -165,17 +269,7 @@ public class ControlPanel extends JPanel {
         // Stats ve info panel güncelle
         statsPanel.update(graph);
         infoPanel.update(m, h, med);
-
-        // H-core düğümlerine özel sınıf atama
-        applyNodeClassesForHCore(hcore);
-
-        // ✅ seçileni belirgin yap
-        for (Node n : graph) {
-            Object cls = n.getAttribute("ui.class");
-            if ("selected".equals(cls)) n.removeAttribute("ui.class");
-        }
-        Node selected = graph.getNode(cid);
-        if (selected != null) selected.setAttribute("ui.class", "selected");
+        Metrics.stop("ui.showInfo", t);
 
 // ✅ layout'a zaman ver, sonra odakla (150ms)
         if (focusHandler != null) {
@@ -186,38 +280,106 @@ public class ControlPanel extends JPanel {
         }
     }
 
-    private void applyNodeClassesForHCore(List<Makale> hcore) {
-        Set<String> hIds = new HashSet<>();
-        for (Makale mm : hcore) hIds.add(mm.getId());
-
-        for (Node n : graph) {
-            if (hIds.contains(n.getId())) {
-                n.setAttribute("ui.class", "hcore");
-            } else {
-                Object cls = n.getAttribute("ui.class");
-                if ("betweenness".equals(cls) || "kcore".equals(cls)) continue;
+    /**
+     * Dikdörtgen seçim: önceki seçimin işareti kaldırılır, yeni makaleler tek delta ile işaretlenir.
+     * Başka bir vurgusu olan düğümlerin (seçili, h-core, k-core...) sınıfına dokunulmaz. EDT'den çağrılır.
+     */
+    public void showSelection(Set<String> ids) {
+        GraphDelta delta = new GraphDelta();
+        for (String id : boxSelection) {
+            Node n = graph.getNode(id);
+            if (n != null && "boxSelected".equals(n.getAttribute("ui.class")) && !ids.contains(id)) {
+                delta.setNodeClass(id, null);
             }
         }
+        long citations = 0;
+        Makale top = null;
+        for (String id : ids) {
+            Node n = graph.getNode(id);
+            if (n != null && n.getAttribute("ui.class") == null) delta.setNodeClass(id, "boxSelected");
+            Makale m = algorithms.getMakale(id);
+            if (m == null) continue;
+            citations += m.getCitationCount();
+            if (top == null || m.getCitationCount() > top.getCitationCount()) top = m;
+        }
+        boxSelection = ids;
+        graphManager.applyDelta(delta);
+
+        if (ids.isEmpty()) {
+            txtLog.setText("Seçim temizlendi.");
+            return;
+        }
+        txtLog.setText("Dikdörtgen seçim: " + ids.size() + " makale\nToplam atıf: " + citations
+                + (top == null ? "" : "\nEn çok atıf alan: " + top.getId() + " (" + top.getCitationCount() + ")"));
+    }
+
+    private void onStreamCorpus(ActionEvent e) {
+        if (streamer.isRunning()) {
+            streamer.cancel();
+            return;
+        }
+        Metrics.count("ui.streamCorpus");
+        btnStream.setText("Yüklemeyi Durdur");
+        txtLog.setText("Tüm korpus grafa akıtılıyor...");
+        streamer.start();
+    }
+
+    private void showStreamProgress(CorpusStreamer.Progress p) {
+        streamProgress.setValue(p.nodesShown);
+        streamProgress.setString(String.format("%d / %d düğüm (%.0f/s)", p.nodesShown, p.nodesTotal, p.nodesPerSecond));
+        if (!p.finished) return;
+
+        btnStream.setText("Tüm Korpusu Göster");
+        txtLog.setText(String.format("Korpus akışı %s: %d / %d düğüm, +%d kenar (%.0f düğüm/s)",
+                p.nodesShown >= p.nodesTotal ? "tamamlandı" : "durduruldu",
+                p.nodesShown, p.nodesTotal, p.edgesAdded, p.nodesPerSecond));
+        statsPanel.update(graph);
     }
 
+    /**
+     * Görünen düğümler üzerinde Brandes betweenness. Kaynaklar turlar halinde işlenir; her turdan sonra
+     * geçici skorlarla betweenness sınıfı güncellenir. Çalışırken düğme iptal düğmesine dönüşür;
+     * görünen düğüm kümesi değişirse (düğüm eklenir/silinirse) iş kendiliğinden iptal edilir.
+     */
     private void onBetweenness(ActionEvent e) {
+        if (betweennessJob != null && !betweennessJob.isDone()) {
+            cancelBetweenness("kullanıcı durdurdu");
+            return;
+        }
+
         // UI'da şu an görünen düğümlerle sınırla (en kritik optimizasyon)
         Set<String> visible = new HashSet<>();
-        for (org.graphstream.graph.Node n : graph) visible.add(n.getId());
+        for (org.graphstream.graph.Node n : graph) {
+            if (!graphManager.isMetaNode(n.getId())) visible.add(n.getId());
+        }
 
         txtLog.setText("Betweenness hesaplanıyor... (" + visible.size() + " düğüm)");
-        JButton src = (JButton) e.getSource();
-        src.setEnabled(false);
+        btnBetweenness.setText("Betweenness'ı Durdur");
+        cancelReason = null;
+        long started = Metrics.start();
 
-        SwingWorker<Map<String, Double>, Void> worker = new SwingWorker<>() {
+        betweennessJob = new SwingWorker<>() {
             @Override
             protected Map<String, Double> doInBackground() {
-                // Yeni yazacağımız hızlı yöntem:
-                return algorithms.calculateBetweennessCentralityBrandes(visible);
+                return algorithms.calculateBetweennessCentralityBrandes(visible, this::publish, this::isCancelled);
+            }
+
+            @Override
+            protected void process(List<BetweennessEstimate> chunks) {
+                if (isCancelled()) return;
+                BetweennessEstimate last = chunks.get(chunks.size() - 1);
+                if (last.isFinal()) return; // tam sonuç done() içinde uygulanır
+                showBrandesProgress(last);
             }
 
             @Override
             protected void done() {
+                btnBetweenness.setText("Betweenness Centrality");
+                if (isCancelled()) {
+                    Metrics.count("ui.betweenness.cancelled");
+                    txtLog.setText("Betweenness iptal edildi (" + cancelReason + "). Renkler son geçici sonucu gösteriyor.");
+                    return;
+                }
                 try {
                     Map<String, Double> scores = get();
                     if (scores == null || scores.isEmpty()) {
@@ -225,30 +387,128 @@ public class ControlPanel extends JPanel {
                         return;
                     }
 
-                    double max = scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(1.0);
-
-                    for (Map.Entry<String, Double> en : scores.entrySet()) {
-                        org.graphstream.graph.Node n = graph.getNode(en.getKey());
-                        if (n == null) continue;
-
-                        n.setAttribute("betweenness", en.getValue());
-                        if (en.getValue() >= 0.9 * max) n.setAttribute("ui.class", "betweenness");
-                        else if ("betweenness".equals(n.getAttribute("ui.class"))) n.removeAttribute("ui.class");
-                    }
-
+                    double max = applyBetweenness(scores);
+                    Metrics.stop("ui.betweenness", started);
                     txtLog.setText("Betweenness bitti. Max=" + max);
                     statsPanel.update(graph);
                 } catch (Exception ex) {
                     txtLog.setText("Betweenness hata: " + ex.getMessage());
-                } finally {
-                    src.setEnabled(true);
                 }
             }
         };
 
-        worker.execute();
+        betweennessJob.execute();
+    }
+
+    /** Çalışan betweenness işini durdurur; herhangi bir iş parçacığından çağrılabilir. */
+    private void cancelBetweenness(String reason) {
+        SwingWorker<Map<String, Double>, BetweennessEstimate> job = betweennessJob;
+        if (job == null || job.isDone()) return;
+        cancelReason = reason;
+        job.cancel(true);
+    }
+
+    private void showBrandesProgress(BetweennessEstimate estimate) {
+        Map<String, Double> visibleScores = new HashMap<>();
+        for (Node n : graph) {
+            if (!graphManager.isMetaNode(n.getId())) visibleScores.put(n.getId(), estimate.score(n.getId()));
+        }
+        double max = applyBetweenness(visibleScores);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Betweenness sürüyor: %d/%d kaynak (%%%d)", estimate.getSamplesDone(),
+                        estimate.getSamplesTotal(), 100L * estimate.getSamplesDone() / Math.max(1, estimate.getSamplesTotal())))
+                .append("\nGeçici max=").append(String.format("%.1f", max)).append("\nGeçici ilk 3:");
+        for (Map.Entry<String, Double> top : estimate.top(3)) {
+            sb.append("\n").append(top.getKey()).append(" = ").append(String.format("%.1f", top.getValue()));
+        }
+        txtLog.setText(sb.toString());
+    }
+
+    /**
+     * Skorları görünen düğümlere yazar; en yüksek %10'luk dilimdekileri (>= 0.9 * max) vurgular.
+     * Görünen düğümler arasındaki maksimum skoru döndürür.
+     */
+    private double applyBetweenness(Map<String, Double> scores) {
+        double max = scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(1.0);
+
+        for (Map.Entry<String, Double> en : scores.entrySet()) {
+            org.graphstream.graph.Node n = graph.getNode(en.getKey());
+            if (n == null) continue;
+
+            n.setAttribute("betweenness", en.getValue());
+            if (en.getValue() >= 0.9 * max) n.setAttribute("ui.class", "betweenness");
+            else if ("betweenness".equals(n.getAttribute("ui.class"))) n.removeAttribute("ui.class");
+        }
+        return max;
     }
 
+    /**
+     * Tüm korpus üzerinde örneklemeli (ε, δ) betweenness; her örnek partisinde
+     * görünen düğümlerin renkleri güncel tahminle yenilenir. Çalışırken düğme durdurma düğmesine
+     * dönüşür; durdurulunca son yayınlanan tahmin ekranda kalır.
+     */
+    private void onApproximateBetweenness(ActionEvent e) {
+        if (approxJob != null && !approxJob.isDone()) {
+            // approximateBetweenness kesmeyi dinler: sıradaki partiden önce durur
+            approxJob.cancel(true);
+            return;
+        }
+
+        txtLog.setText("Yaklaşık betweenness başlatıldı (ε=" + APPROX_EPSILON + ", δ=" + APPROX_DELTA + ")...");
+        btnApprox.setText("Yaklaşık Betweenness'ı Durdur");
+        long started = Metrics.start();
+
+        approxJob = new SwingWorker<>() {
+            @Override
+            protected BetweennessEstimate doInBackground() {
+                return algorithms.approximateBetweenness(APPROX_EPSILON, APPROX_DELTA, System.nanoTime(),
+                        estimate -> publish(estimate));
+            }
+
+            @Override
+            protected void process(List<BetweennessEstimate> chunks) {
+                if (isCancelled()) return;
+                showEstimate(chunks.get(chunks.size() - 1));
+            }
+
+            @Override
+            protected void done() {
+                btnApprox.setText("Yaklaşık Betweenness (Tüm Korpus)");
+                if (isCancelled()) {
+                    Metrics.count("ui.approxBetweenness.cancelled");
+                    txtLog.append("\nYaklaşık betweenness durduruldu; renkler son tahmini gösteriyor.");
+                    return;
+                }
+                try {
+                    showEstimate(get());
+                    Metrics.stop("ui.approxBetweenness", started);
+                } catch (Exception ex) {
+                    txtLog.setText("Yaklaşık betweenness hata: " + ex.getMessage());
+                }
+            }
+        };
+
+        approxJob.execute();
+    }
+
+    private void showEstimate(BetweennessEstimate estimate) {
+        Map<String, Double> visibleScores = new HashMap<>();
+        for (Node n : graph) {
+            if (!graphManager.isMetaNode(n.getId())) visibleScores.put(n.getId(), estimate.score(n.getId()));
+        }
+        double max = visibleScores.isEmpty() ? 0.0 : applyBetweenness(visibleScores);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(estimate.isFinal() ? "Yaklaşık betweenness bitti" : "Yaklaşık betweenness sürüyor")
+                .append(" (").append(estimate.getSamplesDone()).append("/").append(estimate.getSamplesTotal())
+                .append(" örnek)\nGörünen max=").append(String.format("%.1f", max)).append("\nKorpus ilk 3:");
+        for (Map.Entry<String, Double> top : estimate.top(3)) {
+            sb.append("\n").append(top.getKey()).append(" = ").append(String.format("%.1f", top.getValue()));
+        }
+        txtLog.setText(sb.toString());
+        statsPanel.update(graph);
+    }
 
     private void onKCore(ActionEvent e) {
         String kText = txtK.getText().trim();
@@ -261,6 +521,7 @@ public class ControlPanel extends JPanel {
             return;
         }
 
+        long t = Metrics.start();
         try {
             List<Makale> core = algorithms.runKCoreDecomposition(k);
             if (core == null) {
@@ -281,8 +542,11 @@ public class ControlPanel extends JPanel {
                 }
             }
 
-            txtLog.setText("K-Core (k=" + k + ") uygulandı. Düğüm sayısı: " + core.size());
+            txtLog.setText("K-Core (k=" + k + ") uygulandı. Düğüm sayısı: " + core.size()
+                    + "\nMaks. çekirdek: " + algorithms.getMaxCore());
             statsPanel.update(graph);
+            Metrics.stop("ui.kcore", t);
+            Metrics.record("ui.kcore.graphNodes", graph.getNodeCount());
         } catch (Exception ex) {
             txtLog.setText("K-Core uygulama sırasında hata: " + ex.getMessage());
         }
@@ -291,4 +555,8 @@ public class ControlPanel extends JPanel {
     public void setFocusHandler(Consumer<String> h) {
         this.focusHandler = h;
     }
+
+    public void setGroupingHandler(Consumer<LevelOfDetail.Grouping> h) {
+        this.groupingHandler = h;
+    }
 }
\ No newline at end of file
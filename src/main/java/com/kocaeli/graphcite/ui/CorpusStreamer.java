@@ -0,0 +1,297 @@
+package com.kocaeli.graphcite.ui;
+
+import com.kocaeli.graphcite.graph.CitationGraph;
+import com.kocaeli.graphcite.graph.GraphAlgorithms;
+import com.kocaeli.graphcite.graph.GraphDelta;
+import com.kocaeli.graphcite.graph.GraphManager;
+import com.kocaeli.graphcite.model.IdDictionary;
+import org.graphstream.stream.SinkAdapter;
+import org.graphstream.stream.Source;
+
+import javax.swing.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * "Tüm korpusu göster" modu: bütün makaleleri ve aralarındaki kenarları grafa parça parça akıtır.
+ *
+ * - Üretici (arka plan iş parçacığı): makaleleri atıf sayısına göre azalan sırayla dolaşır ve
+ *   her parça için {@link GraphDelta} hesaplar. Deltalar üreticinin kendi kümesine (başlangıçta
+ *   grafta olanlar + şimdiye kadar ürettikleri) göre hesaplanır; EDT ile kilit paylaşılmaz.
+ *   Kuyruk doluysa put() ile bloklanır.
+ * - Uygulayıcı (EDT, her karede bir Swing Timer): kuyruktan tek delta alıp uygular. Uygulama
+ *   süresine göre bir sonraki parçanın boyutu ayarlanır (hedef: yarım kare).
+ * - Geri basınç: her parçadan sonra grafa bir sıra numarası yazılır. Viewer bu değişikliği işleyip
+ *   ViewerPipe'tan geri yansıttığında onaylanmış sayılır. Viewer geride kalırsa yeni parça uygulanmaz.
+ *   Pipe hiç yansıtmıyorsa (ör. viewer yok) bir süre sonra sadece kare temposuyla devam edilir.
+ *
+ * Graf yalnızca EDT'den değişir; kaydırma ve yakınlaştırma yükleme sürerken akıcı kalır.
+ * inGraph kümesi ControlPanel ile paylaşılır ve sadece EDT'den okunup yazılır (grafta gerçekten
+ * bulunan düğümler). Akış sürerken tıklamayla eklenen düğümler {@link #markExternal} ile bildirilir;
+ * akışa henüz gelmemiş olanların yeni parçalarla kenarları uygulama sırasında tamamlanır.
+ */
+class CorpusStreamer {
+
+    /** Akışın anlık durumu. */
+    static final class Progress {
+        final int nodesShown;
+        final int nodesTotal;
+        final int edgesAdded;
+        final int chunkSize;
+        final double nodesPerSecond;
+        final boolean finished;
+
+        Progress(int nodesShown, int nodesTotal, int edgesAdded, int chunkSize, double nodesPerSecond, boolean finished) {
+            this.nodesShown = nodesShown;
+            this.nodesTotal = nodesTotal;
+            this.edgesAdded = edgesAdded;
+            this.chunkSize = chunkSize;
+            this.nodesPerSecond = nodesPerSecond;
+            this.finished = finished;
+        }
+    }
+
+    private static final int FRAME_MS = 16;
+    private static final long APPLY_BUDGET_NANOS = 8_000_000L;
+    private static final int FIRST_CHUNK = 256;
+    private static final int MIN_CHUNK = 32;
+    private static final int MAX_CHUNK = 16_384;
+    private static final int QUEUE_CAPACITY = 3;
+    private static final int MAX_UNACKED = 2;
+    private static final long ACK_TIMEOUT_NANOS = 1_000_000_000L;
+    static final String SEQ_ATTRIBUTE = "graphcite.streamSeq";
+
+    private final GraphAlgorithms algorithms;
+    private final GraphManager graphManager;
+    private final BitSet inGraph;
+    private final Consumer<Progress> onProgress;
+    private final BlockingQueue<Chunk> ready = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Timer applier;
+
+    private volatile int chunkSize = FIRST_CHUNK;
+    // Bitmiş son üreticinin nesli; iptal edilen eski üretici yeni akışı "bitti" sanmasın diye
+    private volatile int doneGeneration = -1;
+    private volatile long ackedSeq;
+    private Thread producer;
+
+    // Sadece EDT'den erişilir
+    private int generation;
+    // Tıklamayla eklenmiş ama akışta sırası henüz gelmemiş düğümler
+    private final BitSet early = new BitSet();
+    private long appliedSeq;
+    private long lastApplyNanos;
+    private boolean ackSupported = true;
+    private int nodesShown;
+    private int edgesAdded;
+    private long startNanos;
+
+    /** Üreticiden uygulayıcıya giden parça: delta ve parçanın akış sırasındaki aralığı [from, to). */
+    private static final class Chunk {
+        final int generation;
+        final GraphDelta delta;
+        final int[] part;
+        final int[] rank;
+        final int from;
+        final int to;
+
+        Chunk(int generation, GraphDelta delta, int[] part, int[] rank, int from, int to) {
+            this.generation = generation;
+            this.delta = delta;
+            this.part = part;
+            this.rank = rank;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    CorpusStreamer(GraphAlgorithms algorithms, GraphManager graphManager, BitSet inGraph, Consumer<Progress> onProgress) {
+        this.algorithms = algorithms;
+        this.graphManager = graphManager;
+        this.inGraph = inGraph;
+        this.onProgress = onProgress;
+        this.applier = new Timer(FRAME_MS, e -> applyNext());
+    }
+
+    /** Viewer'ın işlediği olayları geri yansıtan kaynak (ViewerPipe); geri basınç için dinlenir. */
+    void setAckSource(Source source) {
+        if (source == null) return;
+        source.addSink(new SinkAdapter() {
+            @Override
+            public void graphAttributeAdded(String sourceId, long timeId, String attribute, Object value) {
+                onAck(attribute, value);
+            }
+
+            @Override
+            public void graphAttributeChanged(String sourceId, long timeId, String attribute, Object oldValue, Object newValue) {
+                onAck(attribute, newValue);
+            }
+        });
+    }
+
+    private void onAck(String attribute, Object value) {
+        if (SEQ_ATTRIBUTE.equals(attribute) && value instanceof Number) {
+            ackedSeq = Math.max(ackedSeq, ((Number) value).longValue());
+        }
+    }
+
+    boolean isRunning() {
+        return applier.isRunning();
+    }
+
+    /** EDT'den çağrılır. */
+    void start() {
+        if (isRunning()) return;
+        int gen = ++generation;
+        ready.clear();
+        early.clear();
+        chunkSize = FIRST_CHUNK;
+        nodesShown = inGraph.cardinality();
+        edgesAdded = 0;
+        startNanos = System.nanoTime();
+        lastApplyNanos = startNanos;
+
+        BitSet claimed = (BitSet) inGraph.clone();
+        producer = new Thread(() -> produce(gen, claimed), "graphcite-corpus-stream");
+        producer.setDaemon(true);
+        producer.start();
+        applier.start();
+    }
+
+    /**
+     * EDT'den çağrılır. Üretici kesilir ama beklenmez (EDT bloklanmaz); kuyrukta kalan parçalar
+     * uygulanır. Kesilen üreticinin geç gelen parçası nesil numarasıyla elenir.
+     */
+    void cancel() {
+        if (producer != null) producer.interrupt();
+        applier.stop();
+        Chunk c;
+        while ((c = ready.poll()) != null) {
+            if (c.generation == generation) apply(c);
+        }
+        report(true);
+    }
+
+    /**
+     * Akış sürerken grafa akış dışından (tıklama) eklenecek düğümleri bildirir. EDT'den,
+     * delta hesaplanmadan önce çağrılır; sadece henüz grafta olmayanlar kaydedilir.
+     */
+    void markExternal(int[] indexes) {
+        if (!isRunning()) return;
+        for (int v : indexes) {
+            if (v >= 0 && !inGraph.get(v)) early.set(v);
+        }
+    }
+
+    private void produce(int gen, BitSet claimed) {
+        CitationGraph g = algorithms.getGraph();
+        int[] order = byCitationsDescending(g);
+        int[] rank = new int[order.length];
+        for (int i = 0; i < order.length; i++) rank[order[i]] = i;
+        int pos = 0;
+        try {
+            while (pos < order.length) {
+                if (Thread.currentThread().isInterrupted()) return;
+
+                int end = Math.min(order.length, pos + chunkSize);
+                int[] part = Arrays.copyOfRange(order, pos, end);
+                // claimed sadece bu iş parçacığına ait; EDT'nin beklediği bir kilit tutulmaz
+                GraphDelta delta = GraphDelta.forExpansion(algorithms, claimed, part);
+                // Geri basınç: kuyruk doluysa uygulayıcı bir parça alana kadar bloklanır (kesmeyle uyanır)
+                ready.put(new Chunk(gen, delta, part, rank, pos, end));
+                pos = end;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            doneGeneration = gen;
+        }
+    }
+
+    private void applyNext() {
+        if (ackSupported && appliedSeq - ackedSeq >= MAX_UNACKED) {
+            // Viewer geride: onay gelene kadar (en fazla ACK_TIMEOUT) yeni parça uygulanmaz
+            if (System.nanoTime() - lastApplyNanos < ACK_TIMEOUT_NANOS) return;
+            // Hiç onay gelmediyse pipe olayları yansıtmıyor: sadece kare temposuyla devam et
+            if (ackedSeq == 0) ackSupported = false;
+        }
+
+        // Önce bitti bayrağı okunur: üretici son parçayı ekleyip bayrağı sonra koyar
+        boolean done = doneGeneration == generation;
+        Chunk c = ready.poll();
+        if (c == null) {
+            if (done) {
+                applier.stop();
+                report(true);
+            }
+            return;
+        }
+        if (c.generation != generation) return;
+
+        long t0 = System.nanoTime();
+        apply(c);
+        lastApplyNanos = System.nanoTime();
+        long elapsed = Math.max(1, lastApplyNanos - t0);
+
+        double ratio = Math.max(0.5, Math.min(2.0, (double) APPLY_BUDGET_NANOS / elapsed));
+        chunkSize = (int) Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, chunkSize * ratio));
+        report(false);
+    }
+
+    private void apply(Chunk c) {
+        GraphDelta d = c.delta;
+        addEarlyEdges(c);
+        graphManager.applyDelta(d);
+        for (int v : c.part) inGraph.set(v);
+        graphManager.getGraph().setAttribute(SEQ_ATTRIBUTE, ++appliedSeq);
+        nodesShown = inGraph.cardinality();
+        edgesAdded += d.getEdgesToAdd().size();
+    }
+
+    /**
+     * Üretici, tıklamayla erken eklenen düğümleri bilmez: sırası bu parçadan sonra gelen erken düğümlerle
+     * bu parçanın düğümleri arasındaki kenarlar deltaya eklenir. Sırası gelen erken düğümün kenarlarını
+     * artık üretici hesaplar. Maliyet erken düğümlerin derecesiyle sınırlıdır (genelde bir h-core).
+     */
+    private void addEarlyEdges(Chunk c) {
+        if (early.isEmpty()) return;
+        CitationGraph g = algorithms.getGraph();
+        IdDictionary ids = algorithms.getIds();
+        int[] fo = g.forwardOffsets(), ft = g.forwardTargets();
+        int[] bo = g.backwardOffsets(), bt = g.backwardTargets();
+        for (int u = early.nextSetBit(0); u >= 0; u = early.nextSetBit(u + 1)) {
+            if (c.rank[u] < c.to) {
+                early.clear(u);
+                continue;
+            }
+            String id = ids.idOf(u);
+            for (int k = fo[u]; k < fo[u + 1]; k++) {
+                int r = c.rank[ft[k]];
+                if (r >= c.from && r < c.to) c.delta.addEdge(id, ids.idOf(ft[k]));
+            }
+            for (int k = bo[u]; k < bo[u + 1]; k++) {
+                int r = c.rank[bt[k]];
+                if (r >= c.from && r < c.to) c.delta.addEdge(ids.idOf(bt[k]), id);
+            }
+        }
+    }
+
+    private void report(boolean finished) {
+        double sec = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        onProgress.accept(new Progress(nodesShown, algorithms.getIds().size(), edgesAdded, chunkSize,
+                nodesShown / sec, finished));
+    }
+
+    /** Önce en çok atıf alanlar: önemli düğümler ilk karelerde görünür. */
+    private static int[] byCitationsDescending(CitationGraph g) {
+        int n = g.nodeCount();
+        long[] keys = new long[n];
+        for (int v = 0; v < n; v++) keys[v] = ((long) (Integer.MAX_VALUE - g.inDegree(v)) << 32) | v;
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = (int) keys[i];
+        return order;
+    }
+}
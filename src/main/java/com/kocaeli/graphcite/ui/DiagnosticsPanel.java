@@ -0,0 +1,90 @@
+package com.kocaeli.graphcite.ui;
+
+import com.kocaeli.graphcite.metrics.Metrics;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Metrik kaydının canlı görünümü (sadece -Dgraphcite.metrics=true iken kenar çubuğuna eklenir).
+ * Tablo panel ekrandayken saniyede bir yenilenir; zamanlayıcı değerleri milisaniyedir.
+ */
+class DiagnosticsPanel extends JPanel {
+
+    private static final int REFRESH_MS = 1000;
+    private static final String[] COLUMNS = {"Metrik", "Adet", "Ort.", "p50", "p99", "Maks."};
+
+    private final MetricsModel model = new MetricsModel();
+    private final Timer refresh = new Timer(REFRESH_MS, e -> model.setRows(Metrics.snapshot()));
+
+    DiagnosticsPanel() {
+        setLayout(new BorderLayout(0, 6));
+        setBackground(new Color(15, 23, 42));
+        setBorder(new EmptyBorder(10, 10, 10, 10));
+
+        JLabel header = new JLabel("Diagnostik (süreler ms)");
+        header.setForeground(Color.WHITE);
+        header.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        add(header, BorderLayout.NORTH);
+
+        JTable table = new JTable(model);
+        table.setFont(new Font("Consolas", Font.PLAIN, 10));
+        table.setRowHeight(16);
+        table.setFillsViewportHeight(true);
+        table.getColumnModel().getColumn(0).setPreferredWidth(150);
+        JScrollPane scroll = new JScrollPane(table);
+        scroll.setPreferredSize(new Dimension(320, 240));
+        add(scroll, BorderLayout.CENTER);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        model.setRows(Metrics.snapshot());
+        refresh.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        refresh.stop();
+        super.removeNotify();
+    }
+
+    private static final class MetricsModel extends AbstractTableModel {
+        private List<Metrics.Snapshot> rows = List.of();
+
+        void setRows(List<Metrics.Snapshot> rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            Metrics.Snapshot s = rows.get(row);
+            if (column == 0) return s.name;
+            if (column == 1) return s.count;
+            if (s.kind == Metrics.Kind.COUNTER) return "";
+            double v = column == 2 ? s.mean : column == 3 ? s.p50 : column == 4 ? s.p99 : s.max;
+            return String.format(Locale.ROOT, s.kind == Metrics.Kind.TIMER ? "%.2f" : "%.0f", v);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.kocaeli.graphcite.ui;
+
+import com.kocaeli.graphcite.graph.BibliometricTable;
+import com.kocaeli.graphcite.graph.GraphAlgorithms;
+import com.kocaeli.graphcite.model.Makale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Hover sırasında makale metriklerini (h-index, h-median) EDT'yi bekletmeden getirir.
+ * - Fare bir düğümde kısa süre (debounce) durmadan hesaplama başlatılmaz.
+ * - Hesaplama tek arka plan iş parçacığında yapılır; imleç düğümden ayrılınca iş iptal edilir.
+ * - Sonuçlar sınırlı bir LRU önbellekte tutulur, tekrar gelen hover hemen cevaplanır.
+ * Tüm public metotlar ve onReady geri çağrısı EDT üzerinde çalışır.
+ */
+class HoverMetricsLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoverMetricsLoader.class);
+
+    /** Bir makalenin hover için hazırlanmış metrikleri. */
+    static final class HoverMetrics {
+        final Makale makale;
+        final int hIndex;
+        final int hMedian;
+
+        HoverMetrics(Makale makale, int hIndex, int hMedian) {
+            this.makale = makale;
+            this.hIndex = hIndex;
+            this.hMedian = hMedian;
+        }
+    }
+
+    private final GraphAlgorithms algorithms;
+    private final Consumer<HoverMetrics> onReady;
+    private final Timer debounce;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "graphcite-hover");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<String, HoverMetrics> cache;
+
+    // Sadece EDT'den erişilir
+    private String pendingId;
+    private Future<?> inFlight;
+
+    HoverMetricsLoader(GraphAlgorithms algorithms, int debounceMs, int cacheSize, Consumer<HoverMetrics> onReady) {
+        this.algorithms = algorithms;
+        this.onReady = onReady;
+        this.cache = new LinkedHashMap<>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, HoverMetrics> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.debounce = new Timer(debounceMs, e -> submit());
+        this.debounce.setRepeats(false);
+    }
+
+    /** İmleç yeni bir düğümün üzerine geldi. */
+    void hover(String id) {
+        cancelInFlight();
+        pendingId = id;
+
+        HoverMetrics cached = cache.get(id);
+        if (cached != null) {
+            debounce.stop();
+            onReady.accept(cached);
+            return;
+        }
+        debounce.restart();
+    }
+
+    /** İmleç düğümden ayrıldı: bekleyen ve çalışan iş iptal edilir. */
+    void leave() {
+        debounce.stop();
+        cancelInFlight();
+        pendingId = null;
+    }
+
+    private void cancelInFlight() {
+        if (inFlight != null) {
+            inFlight.cancel(true);
+            inFlight = null;
+        }
+    }
+
+    private void submit() {
+        final String id = pendingId;
+        if (id == null) return;
+
+        inFlight = executor.submit(() -> {
+            HoverMetrics m = compute(id);
+            if (m == null || Thread.currentThread().isInterrupted()) return;
+            SwingUtilities.invokeLater(() -> deliver(id, m));
+        });
+    }
+
+    private HoverMetrics compute(String id) {
+        try {
+            Makale m = algorithms.getMakale(id);
+            if (m == null) return null;
+            int index = m.getIndex();
+
+            // Tablo hazırsa O(1); değilse sadece bu makale için O(d log d) hesap (tabloyu beklemez)
+            BibliometricTable table = algorithms.getBibliometricsIfReady();
+            if (table != null) return new HoverMetrics(m, table.hIndex(index), table.hMedian(index));
+
+            int h = algorithms.calculateHIndex(index);
+            int med = h == 0 ? 0 : algorithms.calculateHMedian(index);
+            return new HoverMetrics(m, h, med);
+        } catch (Exception ex) {
+            logger.debug("Hover metrikleri hesaplanamadı: {}", id, ex);
+            return null;
+        }
+    }
+
+    private void deliver(String id, HoverMetrics m) {
+        cache.put(id, m);
+        // İmleç bu arada başka düğüme geçtiyse sonuç sadece önbelleğe yazılır
+        if (id.equals(pendingId)) {
+            inFlight = null;
+            onReady.accept(m);
+        }
+    }
+}
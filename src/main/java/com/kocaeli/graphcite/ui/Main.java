@@ -1,33 +1,112 @@
 package com.kocaeli.graphcite.ui;
 
+import com.kocaeli.graphcite.graph.GraphAlgorithms;
+import com.kocaeli.graphcite.metrics.Metrics;
 import com.kocaeli.graphcite.model.Makale;
+import com.kocaeli.graphcite.parser.CorpusSnapshot;
 import com.kocaeli.graphcite.parser.JsonParser;
 
 import javax.swing.*;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class Main {
+    private static final String STAGE_CORPUS = "Korpus okunuyor";
+    private static final String STAGE_INDEX = "İndeksler kuruluyor";
+    private static final String STAGE_LAYOUT = "Yerleşim okunuyor";
+    private static final String STAGE_VIEWER = "Görüntüleyici hazırlanıyor";
+    private static final String STAGE_ATTACH = "Arayüz bağlanıyor";
+
+    /** Arka planda hazırlanan, pencereye bağlanacak korpus parçaları. */
+    private static final class Loaded {
+        final GraphAlgorithms algorithms;
+        final float[] layout;
+
+        Loaded(GraphAlgorithms algorithms, float[] layout) {
+            this.algorithms = algorithms;
+            this.layout = layout;
+        }
+    }
+
     public static void main(String[] args) {
         // Arayüzün işletim sistemine (Mac/Windows) uygun görünmesi için
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception ignored) {}
 
-        // Uygulamayı Başlat
+        // -Dgraphcite.metrics=true -Dgraphcite.metrics.file=... ile periyodik metrik dosyası
+        Metrics.startFileDump();
+
+        // Uygulamayı Başlat: pencere hemen açılır, korpus ve indeksler arka planda hazırlanır
         SwingUtilities.invokeLater(() -> {
-            try {
-                System.out.println("⏳ Veriler okunuyor...");
-                List<Makale> data = JsonParser.parse("data.json");
-                System.out.println("✅ " + data.size() + " makale yüklendi.");
+            long start = System.nanoTime();
+            Path corpus = Path.of("data.json");
+            StartupSplash splash = new StartupSplash(STAGE_CORPUS, STAGE_INDEX, STAGE_LAYOUT, STAGE_VIEWER, STAGE_ATTACH);
 
-                System.out.println("🚀 Arayüz başlatılıyor...");
-                MainFrame frame = new MainFrame(data);
-                frame.setVisible(true); // Pencereyi göster
+            // Arka plan: okuma -> indeks (CSR, atıf sayıları) -> yerleşim dosyası
+            CompletableFuture<Loaded> loaded = CompletableFuture.supplyAsync(() -> {
+                List<Makale> data = splash.stage(STAGE_CORPUS, () -> loadCorpus(corpus));
+                GraphAlgorithms alg = splash.stage(STAGE_INDEX, () -> new GraphAlgorithms(data));
+                float[] layout = splash.stage(STAGE_LAYOUT, () -> MainFrame.readLayout(corpus, alg));
+                return new Loaded(alg, layout);
+            });
 
+            // Aynı anda EDT'de: pencere ve viewer (korpus boyutundan bağımsız)
+            MainFrame frame;
+            try {
+                frame = splash.stage(STAGE_VIEWER, () -> new MainFrame(splash));
             } catch (Exception e) {
                 e.printStackTrace();
-                JOptionPane.showMessageDialog(null, "Veri okuma hatası:\n" + e.getMessage(), "Hata", JOptionPane.ERROR_MESSAGE);
+                JOptionPane.showMessageDialog(null, "Arayüz başlatılamadı:\n" + e.getMessage(), "Hata", JOptionPane.ERROR_MESSAGE);
+                return;
             }
+            frame.setVisible(true); // Pencereyi göster
+            System.out.printf("🚀 İlk pencere (%.0f ms).%n", (System.nanoTime() - start) / 1e6);
+
+            loaded.whenComplete((l, ex) -> SwingUtilities.invokeLater(() -> {
+                try {
+                    if (ex != null) throw ex.getCause() != null ? ex.getCause() : ex;
+                    splash.stage(STAGE_ATTACH, () -> {
+                        frame.attachCorpus(l.algorithms, corpus, l.layout);
+                        return null;
+                    });
+                    System.out.printf("✅ Açılış tamamlandı (%.0f ms).%n", (System.nanoTime() - start) / 1e6);
+                } catch (Throwable e) {
+                    e.printStackTrace();
+                    JOptionPane.showMessageDialog(frame, "Veri okuma hatası:\n" + e.getMessage(), "Hata", JOptionPane.ERROR_MESSAGE);
+                }
+            }));
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Geçerli bir ikili anlık görüntü varsa korpusu ondan yükler; yoksa JSON'ı ayrıştırır
+     * ve bir sonraki açılış için anlık görüntüyü yazar.
+     */
+    private static List<Makale> loadCorpus(Path jsonPath) throws Exception {
+        CorpusSnapshot snapshot = new CorpusSnapshot(jsonPath);
+
+        System.out.println("⏳ Veriler okunuyor...");
+        long t0 = System.nanoTime();
+        List<Makale> data = snapshot.read();
+        if (data != null) {
+            System.out.printf("✅ %d makale anlık görüntüden yüklendi (%.0f ms).%n",
+                    data.size(), (System.nanoTime() - t0) / 1e6);
+            return data;
+        }
+
+        data = JsonParser.parseParallel(jsonPath.toString());
+        double sec = (System.nanoTime() - t0) / 1e9;
+        double mb = jsonPath.toFile().length() / 1e6;
+        System.out.printf("✅ %d makale yüklendi (%.0f ms, %.1f MB/s, %.0f makale/s).%n",
+                data.size(), sec * 1000, mb / sec, data.size() / sec);
+
+        try {
+            snapshot.write(data);
+        } catch (Exception e) {
+            System.out.println("⚠️ Anlık görüntü yazılamadı: " + e.getMessage());
+        }
+        return data;
+    }
+}
@@ -1,9 +1,15 @@
 package com.kocaeli.graphcite.ui;
 
+import com.kocaeli.graphcite.graph.ForceLayout;
 import com.kocaeli.graphcite.graph.GraphAlgorithms;
 import com.kocaeli.graphcite.graph.GraphManager;
+import com.kocaeli.graphcite.graph.LevelOfDetail;
+import com.kocaeli.graphcite.graph.SpatialIndex;
+import com.kocaeli.graphcite.metrics.Metrics;
 import com.kocaeli.graphcite.model.Makale;
+import com.kocaeli.graphcite.parser.LayoutStore;
 import org.graphstream.graph.Graph;
+import org.graphstream.stream.SinkAdapter;
 import org.graphstream.ui.geom.Point3;
 import org.graphstream.ui.swingViewer.ViewPanel;
 import org.graphstream.ui.view.Viewer;
@@ -17,39 +23,85 @@ import org.graphstream.ui.spriteManager.SpriteManager;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class MainFrame extends JFrame implements ViewerListener {
     private static final Logger logger = LoggerFactory.getLogger(MainFrame.class);
 
     private final GraphManager graphManager;
-    private final List<Makale> makaleler;
     private final Graph graph;
-    private final GraphAlgorithms algorithms;
-
-    private final StatsPanel statsPanel;
-    private final ArticleInfoPanel articleInfoPanel;
-    private final ControlPanel controlPanel;
+    private final Viewer viewer;
+    private final Component viewComponent;
+
+    // Korpus bağlanınca (attachCorpus) atanır; o zamana kadar etkileşim kapalıdır (viewReady)
+    private List<Makale> makaleler = List.of();
+    private GraphAlgorithms algorithms;
+    private StatsPanel statsPanel;
+    private ArticleInfoPanel articleInfoPanel;
+    private ControlPanel controlPanel;
+    private HoverMetricsLoader hoverLoader;
+    private LevelOfDetail lod;
+    private Component eastPanel;
+
+    // Düğüm konumlarının ızgara indeksi: hover/tıklama isabet testi ve odaklama için
+    private final SpatialIndex spatialIndex = new SpatialIndex(0.5);
+    private static final int HIT_RADIUS_PX = 10;
+    // Uzaklaştırınca makaleler özet düğümlere toplanır; ekranda en fazla bu kadar makale çizilir
+    private static final int LOD_NODE_LIMIT = 5000;
+    private static final double META_ZOOM_PERCENT = 0.3;
+
+    // Dikdörtgen seçim (Ctrl + sol sürükleme); seçimin etiketleri sadece ekrandaki düğümlere konur
+    private static final int MAX_SELECTION_LABELS = 200;
+    private Set<String> boxSelection = Set.of();
+    private final Set<String> labelled = new HashSet<>();
+    private final Rectangle band = new Rectangle();
+    private JComponent bandPane;
+    private String cameraState;
+    private Timer viewRefresh;
+    private String hoverLabelId;
 
     private SpriteManager spriteManager;
     private Sprite hoverCard;
     private String lastHoverId;
 
     private final ViewerPipe pipe;
+    private final ViewerPipePump pump;
     private boolean viewReady = false;
 
     public MainFrame(List<Makale> makaleler) {
-        this.makaleler = makaleler == null ? List.of() : makaleler;
+        this(makaleler, null);
+    }
+
+    /**
+     * corpusPath verilirse düğüm koordinatları korpusun yanındaki layout dosyasından okunur;
+     * dosya yoksa veya eskiyse arka planda hesaplanıp yazılır.
+     */
+    public MainFrame(List<Makale> makaleler, Path corpusPath) {
+        this((Component) null);
+        GraphAlgorithms alg = new GraphAlgorithms(makaleler == null ? List.of() : makaleler);
+        attachCorpus(alg, corpusPath, readLayout(corpusPath, alg));
+    }
 
+    /**
+     * Veriden bağımsız kısım: pencere, graf, viewer ve fare etkileşimi. Korpus yüklenirken
+     * pencere açılabilir; sağ panelde placeholder (ör. açılış aşamaları) gösterilir.
+     * Korpus hazır olunca {@link #attachCorpus} çağrılmalıdır.
+     */
+    MainFrame(Component placeholder) {
         setTitle("GraphCite – Makale Graf Analiz Sistemi");
         setExtendedState(JFrame.MAXIMIZED_BOTH);
         setDefaultCloseOperation(EXIT_ON_CLOSE);
         setLayout(new BorderLayout());
 
-        // Core graph logic
-        algorithms = new GraphAlgorithms(this.makaleler);
-        graphManager = new GraphManager(this.makaleler);
+        graphManager = new GraphManager(List.of());
         graph = graphManager.createGraph();
+        // İlk (tohum) konumlar kaynak graftan, layout güncellemeleri ViewerPipe'tan gelir
+        graph.addSink(spatialIndex);
 
         // --- Hover card (sprite) init ---
         try {
@@ -67,44 +119,124 @@ public class MainFrame extends JFrame implements ViewerListener {
         applyGraphStyle(graph);
 
         // Viewer oluşturma (görselleştirme; başarısız olursa placeholder kullan)
-        Viewer viewer = null;
+        Viewer tempViewer;
         try {
-            viewer = new Viewer(graph, Viewer.ThreadingModel.GRAPH_IN_ANOTHER_THREAD);
-            viewer.enableAutoLayout(new org.graphstream.ui.layout.springbox.implementations.SpringBox());
+            tempViewer = new Viewer(graph, Viewer.ThreadingModel.GRAPH_IN_ANOTHER_THREAD);
         } catch (Exception e) {
             logger.warn("Viewer veya AutoLayout başlatılamadı, görselleştirme sınırlı olabilir.", e);
-            viewer = null;
+            tempViewer = null;
         }
+        viewer = tempViewer;
 
-        Component viewComponent = null;
+        Component tempView = null;
         if (viewer != null) {
             try {
-                viewComponent = viewer.addDefaultView(false);
+                tempView = viewer.addDefaultView(false);
             } catch (Exception e) {
                 logger.warn("ViewPanel oluşturulurken hata: fallback placeholder kullanılacak.", e);
-                viewComponent = null;
+                tempView = null;
             }
         }
 
-        if (viewComponent == null) {
-            viewComponent = new JPanel();
-            viewComponent.setBackground(new Color(248, 250, 252));
+        if (tempView == null) {
+            tempView = new JPanel();
+            tempView.setBackground(new Color(248, 250, 252));
             logger.warn("Gerçek ViewPanel oluşturulamadı; placeholder JPanel kullanılıyor.");
         } else {
-            if (viewComponent instanceof JComponent) ((JComponent) viewComponent).setBackground(new Color(248, 250, 252));
+            if (tempView instanceof JComponent) ((JComponent) tempView).setBackground(new Color(248, 250, 252));
         }
+        viewComponent = tempView;
 
         // Fare / zoom / panning sadece gerçek ViewPanel için etkinleştirilecek
         setupZoom(viewComponent);
         setupMouseInteraction(viewComponent);
         enablePanning(viewComponent);
+        setupBoxSelection(viewComponent);
 
         add(viewComponent, BorderLayout.CENTER);
+        if (placeholder != null) {
+            eastPanel = placeholder;
+            add(placeholder, BorderLayout.EAST);
+        }
+
+        // field: private final ViewerPipe pipe;
+        ViewerPipe tempPipe = null;
+        ViewerPipePump tempPump = null;
+
+        if (viewer != null) {
+            try {
+                tempPipe = viewer.newViewerPipe();
+                tempPipe.addSink(spatialIndex);
+                // Olaylar ayrı iş parçacığında beklenir; geri çağrılar sadece olay gelince EDT'ye aktarılır
+                tempPump = new ViewerPipePump(tempPipe, this);
+                tempPump.start();
+            } catch (Exception ex) {
+                logger.warn("ViewerPipe oluşturulamadı, etkileşim sınırlı olabilir.", ex);
+                tempPipe = null;
+                tempPump = null;
+            }
+        }
+
+        // Tek ve kesin atama
+        pipe = tempPipe;
+        pump = tempPump;
+        if (pump != null) {
+            addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowClosing(WindowEvent e) {
+                    ViewerPipePump.Stats st = pump.stats();
+                    logger.info("Viewer olayları: {} adet, EDT gecikmesi ort. {} ms / maks. {} ms, maks. kuyruk {}",
+                            st.eventsDelivered, String.format("%.2f", st.avgLatencyMs),
+                            String.format("%.2f", st.maxLatencyMs), st.maxQueueDepth);
+                    pump.stop();
+                }
+            });
+        }
+    }
+
+    /**
+     * Korpusun yanındaki layout dosyasını okur; yoksa, eskiyse veya okunamazsa null.
+     * Arka plan iş parçacığından çağrılabilir.
+     */
+    static float[] readLayout(Path corpusPath, GraphAlgorithms algorithms) {
+        if (corpusPath == null) return null;
+        LayoutStore store = new LayoutStore(corpusPath);
+        try {
+            return store.read(algorithms.getIds().size());
+        } catch (Exception e) {
+            logger.warn("Layout dosyası okunamadı: {}", store.getLayoutPath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Yüklenen korpusu pencereye bağlar: yan paneller kurulur, yerleşim uygulanır ve etkileşim açılır.
+     * Analiz kontrolleri (betweenness, k-core) bibliyometrik tablo ve çekirdek numaraları arka planda
+     * hazırlanınca etkinleşir. EDT'den çağrılmalıdır.
+     */
+    void attachCorpus(GraphAlgorithms algorithms, Path corpusPath, float[] layout) {
+        this.algorithms = algorithms;
+        this.makaleler = algorithms.getMakaleler();
+
+        // Çevrimdışı yerleşim: varsa düğümler oturmuş konumlarıyla gelir, canlı layout kapalı kalır
+        if (layout != null) graphManager.setLayout(algorithms.getIds(), layout);
+        if (viewer != null && !graphManager.hasLayout()) {
+            try {
+                viewer.enableAutoLayout(new org.graphstream.ui.layout.springbox.implementations.SpringBox());
+            } catch (Exception e) {
+                logger.warn("AutoLayout başlatılamadı.", e);
+            }
+        }
+
+        lod = new LevelOfDetail(graphManager, algorithms, spatialIndex, LOD_NODE_LIMIT);
 
         // Sağ panel bileşenleri: önce Stats ve ArticleInfo, sonra ControlPanel (ControlPanel ArticleInfoPanel'e ihtiyaç duyuyor)
         statsPanel = new StatsPanel(this.makaleler);
         articleInfoPanel = new ArticleInfoPanel();
         controlPanel = new ControlPanel(algorithms, graph, graphManager, statsPanel, articleInfoPanel);
+        // Hover metrikleri: 80 ms debounce, arka planda hesap, son 256 makale önbellekte
+        hoverLoader = new HoverMetricsLoader(algorithms, 80, 256,
+                hm -> articleInfoPanel.update(hm.makale, hm.hIndex, hm.hMedian));
 
         // focus handler: ControlPanel'den gelen id'yi ViewPanel'e odaklar
         final Component viewFinal = viewComponent;
@@ -115,39 +247,63 @@ public class MainFrame extends JFrame implements ViewerListener {
                 logger.debug("centerOnNodeAnimated çağrıldı fakat view gerçek ViewPanel değil.");
             }
         }));
+        controlPanel.setGroupingHandler(lod::setGrouping);
+        if (pipe != null) controlPanel.attachViewerPipe(pipe);
+
+        if (eastPanel != null) remove(eastPanel);
+        eastPanel = buildSidebar(this.makaleler);
+        add(eastPanel, BorderLayout.EAST);
+        revalidate();
+        repaint();
+
+        // Analiz indeksleri arka planda: bibliyometrik tablo (hover/h-index) ve çekirdek numaraları (k-core)
+        long t0 = System.nanoTime();
+        java.util.concurrent.CompletableFuture
+                .supplyAsync(() -> {
+                    algorithms.getBibliometrics();
+                    return algorithms.getMaxCore();
+                })
+                .whenComplete((maxCore, ex) -> SwingUtilities.invokeLater(() -> {
+                    if (ex != null) {
+                        logger.warn("Analiz indeksleri hazırlanamadı", ex);
+                        return;
+                    }
+                    controlPanel.setAnalysisReady(maxCore, (System.nanoTime() - t0) / 1_000_000);
+                }));
 
-        add(buildSidebar(this.makaleler), BorderLayout.EAST);
+        if (corpusPath != null && !graphManager.hasLayout()) {
+            computeLayoutInBackground(new LayoutStore(corpusPath), viewer);
+        }
 
-        // field: private final ViewerPipe pipe;
-        ViewerPipe tempPipe = null;
+        // view hazır olana kadar kısa kilit
+        Timer ready = new Timer(500, e -> viewReady = true);
+        ready.setRepeats(false);
+        ready.start();
+    }
 
-        if (viewer != null) {
+    /**
+     * Tüm korpus için yerleşimi arka planda hesaplar ve diske yazar. Bittiğinde görünen düğümler
+     * hesaplanan konumlara taşınır ve canlı layout kapatılır; sonraki açılışlar dosyadan başlar.
+     */
+    private void computeLayoutInBackground(LayoutStore store, Viewer viewer) {
+        Thread t = new Thread(() -> {
             try {
-                tempPipe = viewer.newViewerPipe();
-                tempPipe.addViewerListener(this);
-
-                // local final referans timer içinde güvenle kullanılmak üzere
-                final ViewerPipe pipeForTimer = tempPipe;
-                new Timer(40, e -> {
-                    try {
-                        if (pipeForTimer != null) pipeForTimer.pump();
-                    } catch (Exception ex) {
-                        logger.warn("ViewerPipe pump sırasında hata: ", ex);
-                    }
-                }).start();
-            } catch (Exception ex) {
-                logger.warn("ViewerPipe oluşturulamadı, etkileşim sınırlı olabilir.", ex);
-                tempPipe = null;
+                long t0 = System.nanoTime();
+                int n = algorithms.getGraph().nodeCount();
+                float[] xy = ForceLayout.compute(algorithms.getGraph(), ForceLayout.defaultIterations(n), 42L);
+                logger.info("Yerleşim hesaplandı: {} düğüm, {} ms", n, (System.nanoTime() - t0) / 1_000_000);
+                store.write(xy);
+                SwingUtilities.invokeLater(() -> {
+                    graphManager.setLayout(algorithms.getIds(), xy);
+                    if (viewer != null) viewer.disableAutoLayout();
+                });
+            } catch (Exception e) {
+                logger.warn("Yerleşim hesaplanamadı/yazılamadı", e);
             }
-        } else {
-            tempPipe = null;
-        }
-
-        // Tek ve kesin atama
-        pipe = tempPipe;
-
-        // view hazır olana kadar kısa kilit
-        new Timer(500, e -> viewReady = true).start();
+        }, "graphcite-layout");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        t.start();
     }
 
     /* ------------------ ZOOM ------------------ */
@@ -155,6 +311,30 @@ public class MainFrame extends JFrame implements ViewerListener {
         if (!(viewComp instanceof ViewPanel)) return;
         ViewPanel view = (ViewPanel) viewComp;
 
+        // LOD ve seçim etiketleri kamera ya da görünen makaleler değişince tek seferlik güncellenir;
+        // boştayken EDT uyandırılmaz. Tekerlek, kaydırma ve odaklama animasyonu scheduleViewRefresh çağırır.
+        viewRefresh = new Timer(150, e -> {
+            if (lod != null) lod.onZoom(view.getCamera().getViewPercent());
+            refreshSelectionLabels(view, false);
+        });
+        viewRefresh.setRepeats(false);
+        view.addComponentListener(new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent e) {
+                scheduleViewRefresh();
+            }
+        });
+        // Korpus akışı gibi toplu eklemeler uzak görünümde özet düğümlere toplanmalı
+        graph.addSink(new SinkAdapter() {
+            @Override public void nodeAdded(String sourceId, long timeId, String nodeId) {
+                if (!graphManager.isMetaNode(nodeId)) scheduleViewRefresh();
+            }
+
+            @Override public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+                if (!graphManager.isMetaNode(nodeId)) scheduleViewRefresh();
+            }
+        });
+        scheduleViewRefresh();
+
         view.addMouseWheelListener(e -> {
             try {
                 double minViewPercent = 0.02;
@@ -172,12 +352,18 @@ public class MainFrame extends JFrame implements ViewerListener {
                         view.getCamera().getViewCenter().y + (before.y - after.y),
                         0
                 );
+                scheduleViewRefresh();
             } catch (Exception ex) {
                 logger.debug("Zoom sırasında hata: ", ex);
             }
         });
     }
 
+    /** Kamera veya görünen makaleler değişti: kısa bir gecikmeyle (olaylar birleştirilerek) LOD/etiket güncellenir. */
+    private void scheduleViewRefresh() {
+        if (viewRefresh != null && !viewRefresh.isRunning()) viewRefresh.start();
+    }
+
     /* ------------------ PANNING ------------------ */
     private void enablePanning(Component viewComp) {
         if (!(viewComp instanceof ViewPanel)) return;
@@ -211,11 +397,115 @@ public class MainFrame extends JFrame implements ViewerListener {
                     double dy = guStart.y - guNow.y;
                     view.getCamera().setViewCenter(view.getCamera().getViewCenter().x + dx, view.getCamera().getViewCenter().y + dy, 0);
                     dragStart.setLocation(e.getX(), e.getY());
+                    scheduleViewRefresh();
                 } catch (Exception ex) { logger.debug("Panning mouseDragged hata: ", ex); }
             }
         });
     }
 
+    /* ------------------ BOX SELECTION ------------------ */
+    private void setupBoxSelection(Component viewComp) {
+        if (!(viewComp instanceof ViewPanel)) return;
+        ViewPanel view = (ViewPanel) viewComp;
+
+        // Seçim dikdörtgeni cam panelde çizilir; cam panelin fare dinleyicisi olmadığı için olaylar view'a gider
+        bandPane = new JComponent() {
+            @Override protected void paintComponent(Graphics g) {
+                if (band.isEmpty()) return;
+                Rectangle r = SwingUtilities.convertRectangle(view, band, this);
+                Graphics2D g2 = (Graphics2D) g.create();
+                g2.setColor(new Color(20, 184, 166, 40));
+                g2.fillRect(r.x, r.y, r.width, r.height);
+                g2.setColor(new Color(15, 118, 110));
+                g2.drawRect(r.x, r.y, r.width, r.height);
+                g2.dispose();
+            }
+        };
+        setGlassPane(bandPane);
+
+        final Point start = new Point();
+        final boolean[] selecting = {false};
+
+        view.addMouseListener(new MouseAdapter() {
+            @Override public void mousePressed(MouseEvent e) {
+                if (!SwingUtilities.isLeftMouseButton(e) || (e.getModifiersEx() & InputEvent.CTRL_DOWN_MASK) == 0) return;
+                start.setLocation(e.getX(), e.getY());
+                band.setBounds(e.getX(), e.getY(), 0, 0);
+                selecting[0] = true;
+            }
+
+            @Override public void mouseReleased(MouseEvent e) {
+                if (!selecting[0]) return;
+                selecting[0] = false;
+                Rectangle r = new Rectangle(band);
+                band.setSize(0, 0);
+                bandPane.setVisible(false);
+                // Sürüklemeden Ctrl+tıklama seçimi temizler
+                if (r.width < 4 && r.height < 4) r.setSize(0, 0);
+                selectBox(view, r);
+            }
+        });
+
+        view.addMouseMotionListener(new MouseMotionAdapter() {
+            @Override public void mouseDragged(MouseEvent e) {
+                if (!selecting[0]) return;
+                band.setFrameFromDiagonal(start, e.getPoint());
+                bandPane.setVisible(true);
+                bandPane.repaint();
+            }
+        });
+    }
+
+    /** Piksel dikdörtgenindeki makaleleri uzamsal indeksten seçer; boş dikdörtgen seçimi temizler. */
+    private void selectBox(ViewPanel view, Rectangle r) {
+        if (!viewReady || controlPanel == null || lod.isCollapsed()) return; // özet görünümde makaleler gizli
+        Set<String> ids = new LinkedHashSet<>();
+        if (!r.isEmpty()) {
+            Point3 a = view.getCamera().transformPxToGu(r.x, r.y);
+            Point3 b = view.getCamera().transformPxToGu(r.x + r.width, r.y + r.height);
+            for (String id : spatialIndex.query(a.x, a.y, b.x, b.y)) {
+                if (!graphManager.isMetaNode(id) && graph.getNode(id) != null) ids.add(id);
+            }
+        }
+        boxSelection = ids;
+        controlPanel.showSelection(ids);
+        refreshSelectionLabels(view, true);
+    }
+
+    /**
+     * Seçili makalelerden sadece görünür bölgedekilere (en fazla MAX_SELECTION_LABELS) etiket konur;
+     * ekran dışına çıkanların etiketi kaldırılır. Kamera değişmediyse (force değilse) bir şey yapılmaz.
+     */
+    private void refreshSelectionLabels(ViewPanel view, boolean force) {
+        if (boxSelection.isEmpty() && labelled.isEmpty()) return;
+        var cam = view.getCamera();
+        String state = cam.getViewCenter().x + "," + cam.getViewCenter().y + "," + cam.getViewPercent()
+                + "," + view.getWidth() + "x" + view.getHeight();
+        if (!force && state.equals(cameraState)) return;
+        cameraState = state;
+
+        Set<String> want = new HashSet<>();
+        if (!boxSelection.isEmpty() && !lod.isCollapsed()) {
+            for (String id : spatialIndex.visible(cam, view.getWidth(), view.getHeight())) {
+                if (!boxSelection.contains(id)) continue;
+                want.add(id);
+                if (want.size() >= MAX_SELECTION_LABELS) break;
+            }
+        }
+        for (Iterator<String> it = labelled.iterator(); it.hasNext(); ) {
+            String id = it.next();
+            if (want.contains(id)) continue;
+            it.remove();
+            var n = graph.getNode(id);
+            if (n != null && !id.equals(hoverLabelId)) n.removeAttribute("ui.label");
+        }
+        for (String id : want) {
+            if (!labelled.add(id)) continue;
+            var n = graph.getNode(id);
+            if (n != null) n.setAttribute("ui.label", shortTitle(algorithms.getMakale(id)));
+        }
+    }
+
     /* ------------------ CENTER ON NODE (ANIMATED) ------------------ */
     private void centerOnNodeAnimated(ViewPanel view, String nodeId, double targetViewPercent) {
         if (view == null) { logger.warn("centerOnNodeAnimated: view null"); return; }
@@ -223,14 +513,23 @@ public class MainFrame extends JFrame implements ViewerListener {
         if (n == null) { logger.debug("centerOnNodeAnimated: node bulunamadı: {}", nodeId); return; }
         Double nx = null, ny = null;
 
-// ✅ 1) Önce xyz dene (GraphStream autolayout çoğu zaman bunu kullanır)
-        try {
-            double[] xyz = n.getAttribute("xyz");
-            if (xyz != null && xyz.length >= 2) {
-                nx = xyz[0];
-                ny = xyz[1];
-            }
-        } catch (Exception ignored) {}
+// ✅ 0) Uzamsal indeksteki son layout konumu (öznitelik haritalarına gitmeden)
+        double[] indexed = spatialIndex.position(nodeId);
+        if (indexed != null) {
+            nx = indexed[0];
+            ny = indexed[1];
+        }
+
+// ✅ 1) Sonra xyz dene (GraphStream autolayout çoğu zaman bunu kullanır)
+        if (nx == null || ny == null) {
+            try {
+                double[] xyz = n.getAttribute("xyz");
+                if (xyz != null && xyz.length >= 2) {
+                    nx = xyz[0];
+                    ny = xyz[1];
+                }
+            } catch (Exception ignored) {}
+        }
 
 // ✅ 2) xyz yoksa x/y dene (senin manuel setlediğin olabilir)
         if (nx == null || ny == null) {
@@ -269,6 +568,7 @@ public class MainFrame extends JFrame implements ViewerListener {
                 double cp = startPercent + (endPercent - startPercent) * ease;
                 try { view.getCamera().setViewCenter(cx, cy, 0); view.getCamera().setViewPercent(cp); } catch (Exception ex) { anim.stop(); }
                 if (step >= steps) anim.stop();
+                if (!anim.isRunning()) scheduleViewRefresh();
             }
         });
         anim.start();
@@ -284,13 +584,14 @@ public class MainFrame extends JFrame implements ViewerListener {
             @Override public void mouseClicked(MouseEvent e) {
                 if (!viewReady) return;
                 try {
-                    GraphicElement ge = view.findNodeOrSpriteAt(e.getX(), e.getY());
-                    if (ge == null) return;
-
-                    String id = ge.getId();
-                    // SADECE graph’ta node olan ID’lere izin ver
-                    if (graph.getNode(id) == null) return;
+                    String id = nodeAt(view, e.getX(), e.getY());
+                    if (id == null) return;
 
+                    // Özet düğüme tıklama: grubun üzerine yakınlaş (LOD kendiliğinden açılır)
+                    if (graphManager.isMetaNode(id)) {
+                        centerOnNodeAnimated(view, id, META_ZOOM_PERCENT);
+                        return;
+                    }
                     buttonPushed(id);
                 } catch (Exception ex) {
                     logger.debug("mouseClicked hata: ", ex);
@@ -300,10 +601,8 @@ public class MainFrame extends JFrame implements ViewerListener {
             @Override public void mouseMoved(MouseEvent e) {
                 if (!viewReady) return;
                 try {
-                    GraphicElement ge = view.findNodeOrSpriteAt(e.getX(), e.getY());
-                    if (ge != null) {
-                        String id = ge.getId();
-                        if (graph.getNode(id) == null) return; // sadece node
+                    String id = nodeAt(view, e.getX(), e.getY());
+                    if (id != null) {
                         if (!id.equals(hoverId)) {
                             if (hoverId != null) { mouseLeft(hoverId); hideHoverCard(); }
                             hoverId = id;
@@ -323,6 +622,29 @@ public class MainFrame extends JFrame implements ViewerListener {
         view.addMouseMotionListener(adapter);
     }
 
+    /**
+     * Piksel konumundaki düğüm: uzamsal indeksten en yakın düğüm (HIT_RADIUS_PX içinde).
+     * İndeks henüz boşsa (konum gelmediyse) GraphStream'in doğrusal aramasına düşülür.
+     */
+    private String nodeAt(ViewPanel view, int px, int py) {
+        if (lod.isCollapsed()) {
+            // Makaleler gizli: sadece özet düğümler seçilebilir
+            Point3 p = view.getCamera().transformPxToGu(px, py);
+            Point3 q = view.getCamera().transformPxToGu(px + 1, py);
+            return lod.metaNodeAt(p.x, p.y, Math.abs(q.x - p.x), HIT_RADIUS_PX);
+        }
+        if (spatialIndex.size() == 0) {
+            GraphicElement ge = view.findNodeOrSpriteAt(px, py);
+            if (ge == null) return null;
+            // SADECE graph’ta node olan ID’lere izin ver
+            return graph.getNode(ge.getId()) != null ? ge.getId() : null;
+        }
+        Point3 p = view.getCamera().transformPxToGu(px, py);
+        Point3 q = view.getCamera().transformPxToGu(px + HIT_RADIUS_PX, py);
+        String id = spatialIndex.nearest(p.x, p.y, Math.abs(q.x - p.x));
+        return id != null && graph.getNode(id) != null ? id : null;
+    }
+
     /* ------------------ STYLE ------------------ */
     private void applyGraphStyle(Graph g) {
         // GraphManager.createGraph() zaten temel stylesheet'i koyuyor.
@@ -347,6 +669,7 @@ public class MainFrame extends JFrame implements ViewerListener {
         content.add(statsPanel);
         content.add(controlPanel);
         content.add(articleInfoPanel);
+        if (Metrics.ENABLED) content.add(new DiagnosticsPanel());
 
         wrapper.add(header, BorderLayout.NORTH);
         wrapper.add(new JScrollPane(content), BorderLayout.CENTER);
@@ -355,6 +678,7 @@ public class MainFrame extends JFrame implements ViewerListener {
 
     /* ------------------ ViewerListener callbacks ------------------ */
     @Override public void buttonPushed(String id) {
+        if (algorithms == null) return;
         try {
             var m = algorithms.getMakale(id);
             if (m == null) return;
@@ -405,10 +729,11 @@ public class MainFrame extends JFrame implements ViewerListener {
             if (n == null) return;
             var m = algorithms.getMakale(id);
             if (m == null) return;
-            articleInfoPanel.update(m, algorithms.calculateHIndex(id), algorithms.calculateHMedian(id));
-            String shortTitle = m.getTitle() == null ? "-" : (m.getTitle().length() > 40 ? m.getTitle().substring(0,40) + "..." : m.getTitle());
+            // Metrikler arka planda hazırlanır; EDT'de sadece etiket güncellenir
+            hoverLoader.hover(id);
             if (!"selected".equals(n.getAttribute("ui.class"))) {
-                n.setAttribute("ui.label", shortTitle);
+                n.setAttribute("ui.label", shortTitle(m));
+                hoverLabelId = id;
             }
         } catch (Exception ex) {
             logger.debug("mouseOver hata: ", ex);
@@ -416,11 +741,19 @@ public class MainFrame extends JFrame implements ViewerListener {
     }
 
     private void mouseLeft(String id) {
+        hoverLoader.leave();
+        if (id.equals(hoverLabelId)) hoverLabelId = null;
         try {
             var n = graph.getNode(id);
-            if (n != null) n.removeAttribute("ui.label");
+            // Ekrandaki seçim etiketi hover bitince de kalır
+            if (n != null && !labelled.contains(id)) n.removeAttribute("ui.label");
         } catch (Exception ex) {
             logger.debug("mouseLeft hata: ", ex);
         }
     }
+
+    private static String shortTitle(Makale m) {
+        if (m == null || m.getTitle() == null) return "-";
+        return m.getTitle().length() > 40 ? m.getTitle().substring(0, 40) + "..." : m.getTitle();
+    }
 }
@@ -0,0 +1,85 @@
+package com.kocaeli.graphcite.ui;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Açılış paneli: her açılış aşamasının durumunu ve süresini gösterir.
+ * Veri yüklenirken pencere bu panelle hemen açılır; korpus bağlanınca yerini yan panele bırakır.
+ * {@link #stage} herhangi bir iş parçacığından çağrılabilir; ekran güncellemeleri EDT'ye aktarılır.
+ */
+class StartupSplash extends JPanel {
+
+    private final Map<String, JLabel> rows = new LinkedHashMap<>();
+    private final JProgressBar progress;
+    private int finished;
+
+    /** EDT'de oluşturulmalı. Aşamalar verilen sırayla listelenir. */
+    StartupSplash(String... stages) {
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        setBackground(new Color(15, 23, 42));
+        setBorder(new EmptyBorder(20, 20, 20, 20));
+        setPreferredSize(new Dimension(360, 0));
+
+        JLabel header = new JLabel("GraphCite açılıyor…");
+        header.setForeground(Color.WHITE);
+        header.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        add(header);
+        add(Box.createVerticalStrut(12));
+
+        for (String s : stages) {
+            JLabel l = new JLabel("○ " + s);
+            l.setForeground(new Color(100, 116, 139));
+            l.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            rows.put(s, l);
+            add(l);
+            add(Box.createVerticalStrut(6));
+        }
+
+        progress = new JProgressBar(0, Math.max(1, stages.length));
+        progress.setMaximumSize(new Dimension(Integer.MAX_VALUE, 14));
+        add(Box.createVerticalStrut(6));
+        add(progress);
+    }
+
+    /**
+     * Aşamayı çalıştırır, başlangıcını ve bitişini (süresiyle) gösterir.
+     * Hata durumunda aşama işaretlenir ve hata CompletionException olarak fırlatılır.
+     */
+    <T> T stage(String name, Callable<T> work) {
+        show(name, "◐ " + name + "…", new Color(226, 232, 240), false);
+        long t0 = System.nanoTime();
+        try {
+            T result = work.call();
+            long ms = (System.nanoTime() - t0) / 1_000_000;
+            show(name, "✓ " + name + " (" + ms + " ms)", new Color(134, 239, 172), true);
+            System.out.printf("⏱️ %s: %d ms%n", name, ms);
+            return result;
+        } catch (Exception e) {
+            show(name, "✗ " + name + ": " + e.getMessage(), new Color(248, 113, 113), false);
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+        }
+    }
+
+    private void show(String name, String text, Color color, boolean done) {
+        Runnable r = () -> {
+            JLabel l = rows.get(name);
+            if (l == null) return;
+            l.setText(text);
+            l.setForeground(color);
+            if (done) progress.setValue(++finished);
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            r.run();
+            // Aynı EDT görevi içinde ardışık aşamalar da görünsün
+            paintImmediately(0, 0, getWidth(), getHeight());
+        } else {
+            SwingUtilities.invokeLater(r);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.kocaeli.graphcite.ui;
+
+import com.kocaeli.graphcite.metrics.Metrics;
+import org.graphstream.ui.view.ViewerListener;
+import org.graphstream.ui.view.ViewerPipe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ViewerPipe'ı ayrı bir iş parçacığında blockingPump ile boşaltır; EDT'de periyodik yoklama yapılmaz.
+ * - Olay yokken iş parçacığı bekler, EDT hiç uyandırılmaz.
+ * - Pipe'a bağlı sink'ler (uzamsal indeks, akış onayı) bu iş parçacığında çalışır ve thread-safe olmalıdır.
+ * - ViewerListener geri çağrıları (buttonPushed vb.) olay geldiğinde EDT'ye aktarılır.
+ * Ölçümler: EDT'de işlenmeyi bekleyen geri çağrı sayısı (kuyruk derinliği) ve olayın pump
+ * iş parçacığına ulaşmasından handler'ın EDT'de çalışmasına kadar geçen süre.
+ */
+class ViewerPipePump {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewerPipePump.class);
+    // Bu süreyi aşan gecikmeler loglanır
+    private static final long SLOW_EVENT_NANOS = 100_000_000L;
+
+    /** Anlık ölçüm değerleri. */
+    static final class Stats {
+        final int queueDepth;
+        final int maxQueueDepth;
+        final long eventsDelivered;
+        final double avgLatencyMs;
+        final double maxLatencyMs;
+
+        Stats(int queueDepth, int maxQueueDepth, long eventsDelivered, double avgLatencyMs, double maxLatencyMs) {
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.eventsDelivered = eventsDelivered;
+            this.avgLatencyMs = avgLatencyMs;
+            this.maxLatencyMs = maxLatencyMs;
+        }
+    }
+
+    private final ViewerPipe pipe;
+    private final ViewerListener target;
+    private final Thread thread;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    ViewerPipePump(ViewerPipe pipe, ViewerListener target) {
+        this.pipe = pipe;
+        this.target = target;
+        pipe.addViewerListener(new ViewerListener() {
+            @Override
+            public void viewClosed(String viewName) {
+                toEdt(() -> ViewerPipePump.this.target.viewClosed(viewName));
+            }
+
+            @Override
+            public void buttonPushed(String id) {
+                toEdt(() -> ViewerPipePump.this.target.buttonPushed(id));
+            }
+
+            @Override
+            public void buttonReleased(String id) {
+                toEdt(() -> ViewerPipePump.this.target.buttonReleased(id));
+            }
+        });
+        this.thread = new Thread(this::run, "graphcite-viewer-pipe");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void stop() {
+        thread.interrupt();
+    }
+
+    Stats stats() {
+        long n = delivered.get();
+        double avg = n == 0 ? 0 : totalLatencyNanos.get() / 1e6 / n;
+        return new Stats(queueDepth.get(), maxQueueDepth.get(), n, avg, maxLatencyNanos.get() / 1e6);
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // Olay gelene kadar bekler; gelen tüm olaylar bu iş parçacığında dağıtılır
+                pipe.blockingPump();
+            } catch (InterruptedException ex) {
+                return;
+            } catch (Exception ex) {
+                logger.warn("ViewerPipe pump sırasında hata: ", ex);
+            }
+        }
+    }
+
+    private void toEdt(Runnable handler) {
+        final long arrived = System.nanoTime();
+        int depth = queueDepth.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+        Metrics.record("viewer.pump.queueDepth", depth);
+        SwingUtilities.invokeLater(() -> {
+            queueDepth.decrementAndGet();
+            long latency = System.nanoTime() - arrived;
+            delivered.incrementAndGet();
+            totalLatencyNanos.addAndGet(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            Metrics.recordNanos("viewer.pump.latency", latency);
+            if (latency > SLOW_EVENT_NANOS) {
+                logger.debug("Viewer olayı EDT'de {} ms bekledi (kuyruk: {})", latency / 1_000_000, depth);
+            }
+            long t = Metrics.start();
+            try {
+                handler.run();
+                Metrics.stop("viewer.pump.handler", t);
+            } catch (Exception ex) {
+                logger.warn("Viewer olayı işlenirken hata: ", ex);
+            }
+        });
+    }
+}
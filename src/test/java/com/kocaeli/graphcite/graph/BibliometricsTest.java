@@ -0,0 +1,93 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.Makale;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.kocaeli.graphcite.graph.Corpora.makale;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** h-index, h-core ve h-median: elle doğrulanmış küçük örnekler ve tanımdan hesaplanan değerler. */
+class BibliometricsTest {
+
+    /**
+     * T'ye atıf yapanlar P1..P4, atıf sayıları 5, 3, 1, 0: h = 2, h-core = {P1, P2}, h-median = (3 + 5) / 2 = 4.
+     * U'ya atıf yapanlar Q1..Q3, her biri 3 atıflı: h = 3, h-median = 3.
+     */
+    private static List<Makale> handCorpus() {
+        return List.of(
+                makale("T"),
+                makale("P1", "T"), makale("P2", "T"), makale("P3", "T"), makale("P4", "T"),
+                makale("C1", "P1", "P2", "P3"), makale("C2", "P1", "P2"), makale("C3", "P1", "P2"),
+                makale("C4", "P1"), makale("C5", "P1"),
+                makale("U"),
+                makale("Q1", "U"), makale("Q2", "U"), makale("Q3", "U"),
+                makale("D1", "Q1", "Q2", "Q3"), makale("D2", "Q1", "Q2", "Q3"), makale("D3", "Q1", "Q2", "Q3"));
+    }
+
+    @Test
+    void handCheckedValues() {
+        GraphAlgorithms algorithms = new GraphAlgorithms(handCorpus());
+        assertEquals(2, algorithms.calculateHIndex("T"));
+        assertEquals(4, algorithms.calculateHMedian("T"));
+        assertEquals(3, algorithms.calculateHIndex("U"));
+        assertEquals(3, algorithms.calculateHMedian("U"));
+        // P2'ye atıf yapan C1..C3 hiç atıf almamış
+        assertEquals(0, algorithms.calculateHIndex("P2"));
+        assertEquals(0, algorithms.calculateHMedian("P1"));
+        assertEquals(0, algorithms.calculateHIndex("C1"));
+        assertEquals(0, algorithms.calculateHMedian("C1"));
+        assertEquals(0, algorithms.calculateHIndex("missing"));
+
+        List<String> core = new ArrayList<>();
+        for (Makale m : algorithms.getHCore("T")) core.add(m.getId());
+        Collections.sort(core);
+        assertEquals(List.of("P1", "P2"), core);
+    }
+
+    @Test
+    void tableMatchesOnDemandValues() {
+        GraphAlgorithms algorithms = new GraphAlgorithms(handCorpus());
+        BibliometricTable table = algorithms.getBibliometrics();
+        assertEquals(2, table.hIndex("T"));
+        assertEquals(4, table.hMedian("T"));
+        assertEquals(3, table.hCoreSize("U"));
+        assertEquals(4, table.citationCount("T"));
+        assertEquals(0, table.hIndex("missing"));
+    }
+
+    @Test
+    void matchesDefinitionOnRandomCorpus() {
+        List<Makale> list = Corpora.random(600, 15, 17L);
+        GraphAlgorithms algorithms = new GraphAlgorithms(list);
+        BibliometricTable table = algorithms.getBibliometrics();
+        CitationGraph g = algorithms.getGraph();
+        int[] bo = g.backwardOffsets(), bt = g.backwardTargets();
+
+        for (int v = 0; v < g.nodeCount(); v++) {
+            List<Integer> counts = new ArrayList<>();
+            for (int k = bo[v]; k < bo[v + 1]; k++) counts.add(g.inDegree(bt[k]));
+            counts.sort(Collections.reverseOrder());
+            int h = 0;
+            while (h < counts.size() && counts.get(h) >= h + 1) h++;
+            int median = median(counts.subList(0, h));
+
+            assertEquals(h, algorithms.calculateHIndex(v), "h-index " + v);
+            assertEquals(h, table.hIndex(v), "tablo h-index " + v);
+            assertEquals(h, algorithms.hCoreIndexes(v).length, "h-core " + v);
+            assertEquals(median, algorithms.calculateHMedian(v), "h-median " + v);
+            assertEquals(median, table.hMedian(v), "tablo h-median " + v);
+        }
+    }
+
+    private static int median(List<Integer> values) {
+        if (values.isEmpty()) return 0;
+        List<Integer> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int n = sorted.size();
+        return n % 2 == 1 ? sorted.get(n / 2) : (sorted.get(n / 2 - 1) + sorted.get(n / 2)) / 2;
+    }
+}
@@ -0,0 +1,120 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.IdDictionary;
+import com.kocaeli.graphcite.model.Makale;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.kocaeli.graphcite.graph.Corpora.makale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CitationGraphTest {
+
+    @Test
+    void degreesOnHandCheckedGraph() {
+        // A -> B, C, B (tekrar), X (korpus dışı), A (kendine); B -> C; D -> C
+        List<Makale> list = List.of(
+                makale("A", "B", "C", "B", "X", "A"),
+                makale("B", "C"),
+                makale("C"),
+                makale("D", "C"));
+        IdDictionary ids = new IdDictionary(list);
+        CitationGraph g = CitationGraph.build(ids, list);
+        int a = ids.indexOf("A"), b = ids.indexOf("B"), c = ids.indexOf("C"), d = ids.indexOf("D");
+
+        assertEquals(4, g.nodeCount());
+        assertEquals(5, g.edgeCount());
+        assertEquals(3, g.outDegree(a));
+        assertEquals(1, g.outDegree(b));
+        assertEquals(0, g.outDegree(c));
+        assertEquals(1, g.inDegree(a));
+        assertEquals(1, g.inDegree(b));
+        assertEquals(3, g.inDegree(c));
+        assertEquals(0, g.inDegree(d));
+
+        // Yönsüz komşuluk: tekrarsız, kendine kenar yok
+        assertEquals(2, g.degree(a));
+        assertEquals(2, g.degree(b));
+        assertEquals(3, g.degree(c));
+        assertEquals(1, g.degree(d));
+
+        assertTrue(g.cites(a, b));
+        assertTrue(g.cites(d, c));
+        assertFalse(g.cites(c, d));
+    }
+
+    @Test
+    void degreesMatchNaiveCountsOnRandomCorpus() {
+        List<Makale> list = Corpora.random(400, 12, 3L);
+        list.get(10).getReferencedWorkIds().add("W-missing");
+        IdDictionary ids = new IdDictionary(list);
+        CitationGraph g = CitationGraph.build(ids, list);
+
+        int[] in = new int[list.size()];
+        long edges = 0;
+        for (int v = 0; v < list.size(); v++) {
+            Set<Integer> targets = new HashSet<>();
+            for (String ref : list.get(v).getReferencedWorkIds()) {
+                int t = ids.indexOf(ref);
+                if (t != IdDictionary.MISSING) targets.add(t);
+            }
+            assertEquals(targets.size(), g.outDegree(v), "out " + v);
+            for (int t : targets) in[t]++;
+            edges += targets.size();
+        }
+        assertEquals(edges, g.edgeCount());
+        for (int v = 0; v < list.size(); v++) assertEquals(in[v], g.inDegree(v), "in " + v);
+    }
+
+    @Test
+    void backwardListsAreSortedAndMirrorForwardLists() {
+        List<Makale> list = Corpora.random(300, 8, 5L);
+        CitationGraph g = CitationGraph.build(new IdDictionary(list), list);
+        int[] bo = g.backwardOffsets(), bt = g.backwardTargets();
+        for (int v = 0; v < g.nodeCount(); v++) {
+            for (int k = bo[v]; k < bo[v + 1]; k++) {
+                assertTrue(g.cites(bt[k], v));
+                if (k > bo[v]) assertTrue(bt[k - 1] < bt[k]);
+            }
+        }
+    }
+
+    /** Alt küme görünümü: komşular yalnızca alt kümeden, yerel indeksler nodes sırasıyla. */
+    @Test
+    void subsetViewMatchesInducedSubgraph() {
+        List<Makale> list = Corpora.random(300, 8, 9L);
+        CitationGraph g = CitationGraph.build(new IdDictionary(list), list);
+        int[] nodes = new Random(4L).ints(0, g.nodeCount()).distinct().limit(60).toArray();
+        UndirectedView view = g.undirected(nodes);
+
+        int[] uo = g.undirectedOffsets(), ut = g.undirectedTargets();
+        assertEquals(nodes.length, view.size());
+        for (int i = 0; i < nodes.length; i++) {
+            Set<Integer> expected = new HashSet<>();
+            for (int k = uo[nodes[i]]; k < uo[nodes[i] + 1]; k++) {
+                for (int j = 0; j < nodes.length; j++) if (nodes[j] == ut[k]) expected.add(j);
+            }
+            Set<Integer> actual = new HashSet<>();
+            for (int k = view.offsets[i]; k < view.offsets[i + 1]; k++) actual.add(view.targets[k]);
+            assertEquals(expected, actual, "node " + nodes[i]);
+            assertEquals(expected.size(), view.offsets[i + 1] - view.offsets[i]);
+        }
+    }
+
+    /** Atıf sayısı tekrarsız in-degree'dir (aynı referansı iki kez listeleyen makale bir kez sayılır). */
+    @Test
+    void citationCountsUseDeduplicatedInDegree() {
+        List<Makale> list = List.of(
+                makale("A", "C", "C", "C"),
+                makale("B", "C"),
+                makale("C"));
+        GraphAlgorithms algorithms = new GraphAlgorithms(list);
+        assertEquals(2, list.get(2).getCitationCount());
+        assertEquals(0, list.get(0).getCitationCount());
+        assertEquals(algorithms.getGraph().inDegree(2), list.get(2).getCitationCount());
+    }
+}
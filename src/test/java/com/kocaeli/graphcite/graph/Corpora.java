@@ -0,0 +1,39 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.Makale;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/** Graf testleri için küçük korpuslar. */
+final class Corpora {
+
+    private Corpora() {
+    }
+
+    static Makale makale(String id, String... refs) {
+        Makale m = new Makale();
+        m.setId(id);
+        m.setTitle("");
+        m.setDoi("");
+        m.setVenue("");
+        m.setAuthors(new ArrayList<>());
+        m.setReferencedWorkIds(new ArrayList<>(Arrays.asList(refs)));
+        return m;
+    }
+
+    /** n makale; her makale kendinden önceki makalelere rastgele (en fazla maxRefs) atıf yapar. */
+    static List<Makale> random(int n, int maxRefs, long seed) {
+        Random random = new Random(seed);
+        List<Makale> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int refs = i == 0 ? 0 : random.nextInt(Math.min(i, maxRefs) + 1);
+            String[] ids = new String[refs];
+            for (int r = 0; r < refs; r++) ids[r] = "W" + random.nextInt(i);
+            list.add(makale("W" + i, ids));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,99 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.Makale;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.kocaeli.graphcite.graph.Corpora.makale;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Batagelj–Zaversnik çekirdek numaraları, eski tekrarlı soyma (peeling) ile aynı k-core'ları vermeli. */
+class KCoreTest {
+
+    @Test
+    void handCheckedCoreNumbers() {
+        // A, B, C, D tam graf (K4); E yalnız D'ye bağlı; F yalnız
+        List<Makale> list = List.of(
+                makale("A", "B", "C", "D"), makale("B", "C", "D"), makale("C", "D"), makale("D"),
+                makale("E", "D"), makale("F"));
+        GraphAlgorithms algorithms = new GraphAlgorithms(list);
+        int[] expected = {3, 3, 3, 3, 1, 0};
+        for (int i = 0; i < expected.length; i++) assertEquals(expected[i], algorithms.getCoreNumber(i), list.get(i).getId());
+        assertEquals(3, algorithms.getMaxCore());
+        assertEquals(List.of("A", "B", "C", "D"), ids(algorithms.runKCoreDecomposition(2)));
+        assertEquals(5, algorithms.runKCoreDecomposition(1).size());
+        assertTrue(algorithms.runKCoreDecomposition(4).isEmpty());
+    }
+
+    @Test
+    void matchesLegacyPeelingOnRandomCorpus() {
+        // Tekrarsız referanslar ve sadece öncekilere atıf: eski çoklu-kenar sayımı basit grafla aynı
+        List<Makale> list = Corpora.random(500, 14, 23L);
+        for (Makale m : list) m.setReferencedWorkIds(new ArrayList<>(new LinkedHashSet<>(m.getReferencedWorkIds())));
+        GraphAlgorithms algorithms = new GraphAlgorithms(list);
+
+        int max = algorithms.getMaxCore();
+        assertTrue(max >= 3);
+        for (int k = 0; k <= max + 1; k++) {
+            Set<String> expected = legacyPeeling(list, k);
+            Set<String> actual = new HashSet<>(ids(algorithms.runKCoreDecomposition(k)));
+            assertEquals(expected, actual, "k = " + k);
+        }
+        assertTrue(legacyPeeling(list, max + 1).isEmpty());
+        assertFalse(legacyPeeling(list, max).isEmpty());
+    }
+
+    @Test
+    void emptyCorpus() {
+        GraphAlgorithms algorithms = new GraphAlgorithms(new ArrayList<>());
+        assertEquals(0, algorithms.getMaxCore());
+        assertTrue(algorithms.runKCoreDecomposition(1).isEmpty());
+    }
+
+    private static List<String> ids(List<Makale> list) {
+        List<String> out = new ArrayList<>();
+        for (Makale m : list) out.add(m.getId());
+        return out;
+    }
+
+    /** CSR öncesindeki runKCoreDecomposition: derecesi k'nın altındaki düğümler değişim kalmayana kadar silinir. */
+    private static Set<String> legacyPeeling(List<Makale> makaleler, int k) {
+        Map<String, Makale> byId = new HashMap<>();
+        for (Makale m : makaleler) byId.put(m.getId(), m);
+        Map<String, List<String>> adj = new HashMap<>();
+        for (Makale m : makaleler) {
+            adj.putIfAbsent(m.getId(), new ArrayList<>());
+            for (String ref : m.getReferencedWorkIds()) {
+                if (!byId.containsKey(ref)) continue;
+                adj.get(m.getId()).add(ref);
+                adj.computeIfAbsent(ref, x -> new ArrayList<>()).add(m.getId());
+            }
+        }
+        Map<String, Integer> degree = new HashMap<>();
+        for (String id : byId.keySet()) degree.put(id, adj.get(id).size());
+
+        Set<String> removed = new HashSet<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (String id : byId.keySet()) {
+                if (removed.contains(id) || degree.get(id) >= k) continue;
+                removed.add(id);
+                changed = true;
+                for (String nb : adj.get(id)) {
+                    if (!removed.contains(nb)) degree.put(nb, degree.get(nb) - 1);
+                }
+            }
+        }
+        Set<String> result = new HashSet<>(byId.keySet());
+        result.removeAll(removed);
+        return result;
+    }
+}
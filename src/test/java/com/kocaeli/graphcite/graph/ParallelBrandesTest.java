@@ -0,0 +1,166 @@
+package com.kocaeli.graphcite.graph;
+
+import com.kocaeli.graphcite.model.Makale;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.kocaeli.graphcite.graph.Corpora.makale;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Paralel Brandes, sıralı (ders kitabı) Brandes ile aynı skorları vermeli. */
+class ParallelBrandesTest {
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    void handCheckedScores() {
+        // Yol A - B - C ve B'ye bağlı D, E yaprakları: B tüm 6 yaprak çiftinin tek ara düğümü
+        List<Makale> list = List.of(makale("A", "B"), makale("B", "C"), makale("C"), makale("D", "B"), makale("E", "B"));
+        BetweennessEstimate cb = new GraphAlgorithms(list).exactBetweenness();
+        assertEquals(6.0, cb.score("B"), EPS);
+        assertEquals(0.0, cb.score("A"), EPS);
+
+        // Kare A-B-C-D-A: karşılıklı köşeler arasında iki en kısa yol, her ara düğüm 1/2 alır
+        List<Makale> square = List.of(makale("A", "B"), makale("B", "C"), makale("C", "D"), makale("D", "A"));
+        BetweennessEstimate sq = new GraphAlgorithms(square).exactBetweenness();
+        for (String id : List.of("A", "B", "C", "D")) assertEquals(0.5, sq.score(id), EPS);
+    }
+
+    @Test
+    void matchesSequentialBrandesOnRandomGraph() {
+        List<Makale> list = Corpora.random(300, 6, 8L);
+        GraphAlgorithms algorithms = new GraphAlgorithms(list);
+        UndirectedView view = algorithms.getGraph().undirected();
+        double[] expected = sequentialBrandes(view);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertScores(expected, new ParallelBrandes(view, pool).run());
+
+            List<Integer> reported = new ArrayList<>();
+            double[] withProgress = new ParallelBrandes(view, pool).run(
+                    (done, total, scores) -> reported.add(done), () -> false);
+            assertScores(expected, withProgress);
+            assertEquals(view.size(), (int) reported.get(reported.size() - 1));
+            assertTrue(reported.size() > 1);
+        } finally {
+            pool.shutdown();
+        }
+
+        BetweennessEstimate exact = algorithms.exactBetweenness();
+        for (int v = 0; v < view.size(); v++) assertEquals(expected[v], exact.score(view.nodes[v]), EPS);
+    }
+
+    @Test
+    void subsetMatchesSequentialBrandesOnInducedSubgraph() {
+        List<Makale> list = Corpora.random(250, 8, 13L);
+        GraphAlgorithms algorithms = new GraphAlgorithms(list);
+        Set<String> subset = new HashSet<>();
+        for (int i = 0; i < list.size(); i += 2) subset.add(list.get(i).getId());
+        subset.add("not-in-corpus");
+
+        Map<String, Double> cb = algorithms.calculateBetweennessCentralityBrandes(subset);
+        int[] nodes = subset.stream().mapToInt(id -> algorithms.getIds().indexOf(id)).filter(i -> i >= 0).toArray();
+        UndirectedView view = algorithms.getGraph().undirected(nodes);
+        double[] expected = sequentialBrandes(view);
+        for (int v = 0; v < view.size(); v++) {
+            assertEquals(expected[v], cb.get(algorithms.getIds().idOf(view.nodes[v])), EPS);
+        }
+        assertEquals(0.0, cb.get("not-in-corpus"), EPS);
+        assertEquals(subset.size(), cb.size());
+
+        // İlerleme tahminleri alt küme indeksli: son tahmin tam sonuçla aynı, alt küme dışı 0
+        List<BetweennessEstimate> estimates = new ArrayList<>();
+        algorithms.calculateBetweennessCentralityBrandes(subset, estimates::add, () -> false);
+        BetweennessEstimate last = estimates.get(estimates.size() - 1);
+        assertTrue(last.isFinal());
+        for (String id : subset) assertEquals(cb.get(id), last.score(id), EPS);
+        assertEquals(0.0, last.score(list.get(1).getId()), EPS);
+        for (Map.Entry<String, Double> top : last.top(5)) {
+            assertTrue(subset.contains(top.getKey()));
+            assertEquals(cb.get(top.getKey()), top.getValue(), EPS);
+        }
+    }
+
+    /** Ağaçta en kısa yollar tektir: eski (çift sayan) naif hesap Brandes ile aynı olmalı. */
+    @Test
+    void matchesNaiveCountOnTree() {
+        List<Makale> list = new ArrayList<>();
+        list.add(makale("W0"));
+        Random random = new Random(2L);
+        for (int i = 1; i < 120; i++) list.add(makale("W" + i, "W" + random.nextInt(i)));
+        GraphAlgorithms algorithms = new GraphAlgorithms(list);
+
+        Map<String, Double> naive = algorithms.calculateBetweennessCentrality();
+        BetweennessEstimate exact = algorithms.exactBetweenness();
+        for (Makale m : list) assertEquals(naive.get(m.getId()), exact.score(m.getId()), EPS);
+    }
+
+    @Test
+    void cancelledRunReturnsNull() {
+        List<Makale> list = Corpora.random(200, 5, 1L);
+        UndirectedView view = new GraphAlgorithms(list).getGraph().undirected();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertNull(new ParallelBrandes(view, pool).run((done, total, scores) -> { }, () -> true));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertScores(double[] expected, double[] actual) {
+        assertNotNull(actual);
+        assertEquals(expected.length, actual.length);
+        for (int v = 0; v < expected.length; v++) assertEquals(expected[v], actual[v], EPS, "düğüm " + v);
+    }
+
+    /** Brandes (2001), ağırlıksız; yönsüz graf için sonuç 2'ye bölünür. */
+    private static double[] sequentialBrandes(UndirectedView view) {
+        int n = view.size();
+        double[] cb = new double[n];
+        for (int s = 0; s < n; s++) {
+            List<List<Integer>> pred = new ArrayList<>();
+            for (int i = 0; i < n; i++) pred.add(new ArrayList<>());
+            long[] sigma = new long[n];
+            int[] dist = new int[n];
+            Arrays.fill(dist, -1);
+            sigma[s] = 1;
+            dist[s] = 0;
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            ArrayDeque<Integer> stack = new ArrayDeque<>();
+            queue.add(s);
+            while (!queue.isEmpty()) {
+                int v = queue.poll();
+                stack.push(v);
+                for (int k = view.offsets[v]; k < view.offsets[v + 1]; k++) {
+                    int w = view.targets[k];
+                    if (dist[w] < 0) {
+                        dist[w] = dist[v] + 1;
+                        queue.add(w);
+                    }
+                    if (dist[w] == dist[v] + 1) {
+                        sigma[w] += sigma[v];
+                        pred.get(w).add(v);
+                    }
+                }
+            }
+            double[] delta = new double[n];
+            while (!stack.isEmpty()) {
+                int w = stack.pop();
+                for (int v : pred.get(w)) delta[v] += (double) sigma[v] / sigma[w] * (1 + delta[w]);
+                if (w != s) cb[w] += delta[w];
+            }
+        }
+        for (int v = 0; v < n; v++) cb[v] /= 2.0;
+        return cb;
+    }
+}
@@ -0,0 +1,131 @@
+package com.kocaeli.graphcite.parser;
+
+import com.kocaeli.graphcite.model.Makale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorpusSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripGeneratedCorpus() throws IOException {
+        Path json = dir.resolve("data.json");
+        new SyntheticCorpusGenerator(3_000, 21L).write(json, null);
+        List<Makale> parsed = JsonParser.parse(json.toString());
+
+        new CorpusSnapshot(json).write(parsed);
+        assertSameMakaleler(parsed, new CorpusSnapshot(json).read());
+    }
+
+    /** Korpus dışı referanslar, boş alanlar, tekrarlanan venue/yazar adları ve Unicode. */
+    @Test
+    void roundTripHandWrittenCorpus() throws IOException {
+        Path json = dir.resolve("data.json");
+        Files.writeString(json, "[{\"id\":\"W1\",\"title\":\"Çizge ağları\",\"venue\":\"V\",\"authors\":[\"Ayşe\",\"Bob\"],"
+                + "\"referenced_works\":[\"W2\",\"W404\",\"W2\"]},"
+                + "{\"id\":\"W2\",\"year\":1999,\"venue\":\"V\",\"authors\":[\"Bob\"],\"referenced_works\":[\"W404\",\"W1\"]},"
+                + "{\"id\":\"W3\"}]", StandardCharsets.UTF_8);
+        List<Makale> parsed = JsonParser.parse(json.toString());
+
+        new CorpusSnapshot(json).write(parsed);
+        List<Makale> read = new CorpusSnapshot(json).read();
+        assertSameMakaleler(parsed, read);
+        assertEquals(List.of("W2", "W404", "W2"), read.get(0).getReferencedWorkIds());
+    }
+
+    @Test
+    void missingSnapshotReadsAsNull() throws IOException {
+        Path json = dir.resolve("data.json");
+        Files.writeString(json, "[]");
+        assertNull(new CorpusSnapshot(json).read());
+    }
+
+    @Test
+    void changedContentInvalidatesSnapshot() throws IOException {
+        Path json = dir.resolve("data.json");
+        Files.writeString(json, "[{\"id\":\"W1\",\"year\":2001}]");
+        FileTime mtime = Files.getLastModifiedTime(json);
+        new CorpusSnapshot(json).write(JsonParser.parse(json.toString()));
+        assertNotNull(new CorpusSnapshot(json).read());
+
+        // Aynı boyut ve aynı değiştirilme zamanı: sadece içerik özeti farkı yakalar.
+        // Değişikliği başka bir işlem yapmış gibi parmak izi önbelleği boşaltılır.
+        Files.writeString(json, "[{\"id\":\"W1\",\"year\":2002}]");
+        Files.setLastModifiedTime(json, mtime);
+        SourceFingerprint.clearCache();
+        assertNull(new CorpusSnapshot(json).read());
+    }
+
+    @Test
+    void changedSizeOrMtimeInvalidatesSnapshot() throws IOException {
+        Path json = dir.resolve("data.json");
+        Files.writeString(json, "[{\"id\":\"W1\"}]");
+        new CorpusSnapshot(json).write(JsonParser.parse(json.toString()));
+
+        Files.setLastModifiedTime(json, FileTime.fromMillis(Files.getLastModifiedTime(json).toMillis() + 5_000));
+        assertNull(new CorpusSnapshot(json).read());
+
+        new CorpusSnapshot(json).write(JsonParser.parse(json.toString()));
+        assertNotNull(new CorpusSnapshot(json).read());
+        Files.writeString(json, "[{\"id\":\"W1\"},{\"id\":\"W2\"}]");
+        assertNull(new CorpusSnapshot(json).read());
+    }
+
+    @Test
+    void corruptSnapshotReadsAsNull() throws IOException {
+        Path json = dir.resolve("data.json");
+        new SyntheticCorpusGenerator(200, 4L).write(json, null);
+        CorpusSnapshot snapshot = new CorpusSnapshot(json);
+        snapshot.write(JsonParser.parse(json.toString()));
+        byte[] bytes = Files.readAllBytes(snapshot.getSnapshotPath());
+
+        Files.write(snapshot.getSnapshotPath(), Arrays.copyOf(bytes, bytes.length / 2));
+        assertNull(new CorpusSnapshot(json).read());
+
+        byte[] badMagic = bytes.clone();
+        badMagic[0] ^= 0x7F;
+        Files.write(snapshot.getSnapshotPath(), badMagic);
+        assertNull(new CorpusSnapshot(json).read());
+
+        Files.write(snapshot.getSnapshotPath(), new byte[3]);
+        assertNull(new CorpusSnapshot(json).read());
+    }
+
+    @Test
+    void writeLeavesNoTemporaryFile() throws IOException {
+        Path json = dir.resolve("data.json");
+        Files.writeString(json, "[{\"id\":\"W1\"}]");
+        CorpusSnapshot snapshot = new CorpusSnapshot(json);
+        snapshot.write(JsonParser.parse(json.toString()));
+        assertTrue(Files.isRegularFile(snapshot.getSnapshotPath()));
+        assertFalse(Files.exists(snapshot.getSnapshotPath().resolveSibling(snapshot.getSnapshotPath().getFileName() + ".tmp")));
+    }
+
+    private static void assertSameMakaleler(List<Makale> expected, List<Makale> actual) {
+        assertNotNull(actual);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Makale e = expected.get(i);
+            Makale a = actual.get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getTitle(), a.getTitle());
+            assertEquals(e.getDoi(), a.getDoi());
+            assertEquals(e.getVenue(), a.getVenue());
+            assertEquals(e.getYear(), a.getYear());
+            assertEquals(e.getAuthors(), a.getAuthors());
+            assertEquals(e.getReferencedWorkIds(), a.getReferencedWorkIds());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.kocaeli.graphcite.parser;
+
+import com.kocaeli.graphcite.model.Makale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Paralel (parçalı) ayrıştırma, sıralı parse() ile aynı sonucu vermeli ve aynı girdileri reddetmeli. */
+class JsonParserTest {
+
+    private static final String OBJ = "{\"id\":\"W1\",\"title\":\"a,{b}[\\\"c\",\"year\":2000,\"referenced_works\":[\"W0\"]}";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void chunkedParseMatchesSequentialParse() throws IOException {
+        Path file = dir.resolve("corpus.json");
+        new SyntheticCorpusGenerator(2_000, 5L).write(file, null);
+        List<Makale> expected = JsonParser.parse(file.toString());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long chunk : new long[]{1, 97, 4_096, 1 << 20}) {
+                assertSameMakaleler(expected, parseChunked(file, chunk, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parseParallelMatchesParse() throws IOException {
+        Path file = dir.resolve("corpus.json");
+        new SyntheticCorpusGenerator(1_000, 9L).write(file, null);
+        assertSameMakaleler(JsonParser.parse(file.toString()), JsonParser.parseParallel(file.toString()));
+    }
+
+    @Test
+    void whitespaceAndEmptyArrays() throws IOException {
+        String[] inputs = {"[]", " [ ] \n", "[\n" + OBJ + " ,\n\t" + OBJ + "\n]\n", "[" + OBJ + "]"};
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (String json : inputs) {
+                Path file = write(json);
+                assertSameMakaleler(JsonParser.parse(file.toString()), parseChunked(file, 1, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void chunkedParseRejectsWhatParseRejects() throws IOException {
+        String[] bad = {
+                "[1,2]",
+                "[\"x\"," + OBJ + "]",
+                "[" + OBJ + ",]",
+                "[" + OBJ + " " + OBJ + "]",
+                "[" + OBJ + ",," + OBJ + "]",
+                "[," + OBJ + "]",
+                "[" + OBJ + "," + OBJ + ",null]",
+                "[" + OBJ,
+                "[" + OBJ + "] x",
+                OBJ
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (String json : bad) {
+                Path file = write(json);
+                assertThrows(IOException.class, () -> JsonParser.parse(file.toString()), "parse: " + json);
+                for (long chunk : new long[]{1, 1 << 20}) {
+                    assertThrows(IOException.class, () -> parseChunked(file, chunk, pool), "chunked " + chunk + ": " + json);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Path write(String json) throws IOException {
+        Path file = Files.createTempFile(dir, "c", ".json");
+        Files.writeString(file, json, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<Makale> parseChunked(Path file, long chunk, ForkJoinPool pool) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return JsonParser.parseChunked(ch, ch.size(), chunk, pool);
+        }
+    }
+
+    private static void assertSameMakaleler(List<Makale> expected, List<Makale> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Makale e = expected.get(i);
+            Makale a = actual.get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getTitle(), a.getTitle());
+            assertEquals(e.getDoi(), a.getDoi());
+            assertEquals(e.getVenue(), a.getVenue());
+            assertEquals(e.getYear(), a.getYear());
+            assertEquals(e.getAuthors(), a.getAuthors());
+            assertEquals(e.getReferencedWorkIds(), a.getReferencedWorkIds());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.kocaeli.graphcite.parser;
+
+import com.kocaeli.graphcite.model.Makale;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonTokenizerTest {
+
+    @Test
+    void matchesLegacyScannerOnPlainCorpus() throws IOException {
+        StringWriter w = new StringWriter();
+        new SyntheticCorpusGenerator(500, 11L).write(w, null);
+        String json = w.toString();
+
+        List<Makale> expected = LegacyScanner.parse(json);
+        List<Makale> actual = readArray(json);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Makale e = expected.get(i);
+            Makale a = actual.get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getTitle(), a.getTitle());
+            assertEquals(e.getDoi(), a.getDoi());
+            assertEquals(e.getYear(), a.getYear());
+            assertEquals(e.getAuthors(), a.getAuthors());
+            assertEquals(e.getReferencedWorkIds(), a.getReferencedWorkIds());
+        }
+    }
+
+    @Test
+    void decodesEscapes() throws IOException {
+        String json = "[{\"id\":\"W1\",\"title\":\"a \\\"quoted\\\" \\\\ back\\/slash\\n\\t\\u00e7\\u011f \\ud83d\\ude00\","
+                + "\"authors\":[\"Ay\\u015fe\",\"\\\"Q\\\"\"]}]";
+        Makale m = readArray(json).get(0);
+        assertEquals("a \"quoted\" \\ back/slash\n\tçğ 😀", m.getTitle());
+        assertEquals(List.of("Ayşe", "\"Q\""), m.getAuthors());
+    }
+
+    @Test
+    void keepsRawUtf8() throws IOException {
+        Makale m = readArray("[{\"id\":\"W1\",\"title\":\"Çizge kuramı – ağlar\"}]").get(0);
+        assertEquals("Çizge kuramı – ağlar", m.getTitle());
+    }
+
+    /** Eski regex tarayıcı string içindeki '}' ve ',' karakterlerinde objeyi bölüyordu. */
+    @Test
+    void bracesAndCommasInsideStringsDoNotSplitObjects() throws IOException {
+        List<Makale> list = readArray("[{\"id\":\"W1\",\"title\":\"x}, {\\\"id\\\":\\\"W9\\\"\",\"year\":2001},"
+                + "{\"id\":\"W2\",\"year\":2002}]");
+        assertEquals(2, list.size());
+        assertEquals("x}, {\"id\":\"W9\"", list.get(0).getTitle());
+        assertEquals(2001, list.get(0).getYear());
+        assertEquals("W2", list.get(1).getId());
+    }
+
+    @Test
+    void nullsAndUnknownValuesAreSkipped() throws IOException {
+        Makale m = readArray("[{\"id\":\"W1\",\"title\":null,\"year\":null,"
+                + "\"extra\":{\"a\":[1,{\"b\":\"}]\"}],\"c\":true},\"authors\":[\"x\",null,\"y\"],"
+                + "\"referenced_works\":null,\"venue\":\"V\"}]").get(0);
+        assertEquals("", m.getTitle());
+        assertEquals(0, m.getYear());
+        assertEquals(List.of("x", "y"), m.getAuthors());
+        assertTrue(m.getReferencedWorkIds().isEmpty());
+        assertEquals("V", m.getVenue());
+    }
+
+    @Test
+    void numericEdgeCases() throws IOException {
+        List<Makale> list = readArray("[{\"id\":\"a\",\"year\":2003.0},{\"id\":\"b\",\"year\":\"2004\"},"
+                + "{\"id\":\"c\",\"year\":99999999999},{\"id\":\"d\",\"year\":-5}]");
+        assertEquals(2003, list.get(0).getYear());
+        assertEquals(0, list.get(1).getYear());
+        assertEquals(0, list.get(2).getYear());
+        assertEquals(-5, list.get(3).getYear());
+    }
+
+    @Test
+    void objectsWithoutIdAreDropped() throws IOException {
+        List<Makale> list = readArray("[ {}, {\"title\":\"t\"}, {\"id\":\"W3\"} ]");
+        assertEquals(1, list.size());
+        assertEquals("W3", list.get(0).getId());
+    }
+
+    /** Kanal yolunda tampon sınırına denk gelen kaçış dizileri ve uzun string'ler. */
+    @Test
+    void valuesSpanningBufferBoundaries() throws IOException {
+        StringBuilder title = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        while (title.length() < JsonTokenizer.BUFFER_SIZE * 2) {
+            title.append("ab\\u00e7\\\"");
+            expected.append("abç\"");
+        }
+        String json = "[{\"id\":\"W1\",\"title\":\"" + title + "\"},{\"id\":\"W2\"}]";
+        List<Makale> list = new ArrayList<>();
+        new JsonTokenizer(Channels.newChannel(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))))
+                .readArray(list);
+        assertEquals(2, list.size());
+        assertEquals(expected.toString(), list.get(0).getTitle());
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        String[] bad = {
+                "[{\"id\":\"W1\"}",
+                "[{\"id\":\"W1\"},]",
+                "[{\"id\":\"W1\"} {\"id\":\"W2\"}]",
+                "[{\"id\":\"a\\q\"}]",
+                "[{\"id\":\"a\\u12\"}]",
+                "[{\"id\":\"W1\"}] x",
+                "{\"id\":\"W1\"}",
+                "[{\"id\" \"W1\"}]",
+                "[{\"id\":\"W1"
+        };
+        for (String json : bad) {
+            assertThrows(IOException.class, () -> readArray(json), json);
+        }
+    }
+
+    @Test
+    void objectSequenceAcceptsChunkContent() throws IOException {
+        List<Makale> list = new ArrayList<>();
+        new JsonTokenizer(ByteBuffer.wrap("{\"id\":\"a\"},\n {\"id\":\"b\"} ".getBytes(StandardCharsets.UTF_8)))
+                .readObjectSequence(list);
+        assertEquals(2, list.size());
+        assertThrows(IOException.class, () -> new JsonTokenizer(ByteBuffer.wrap(
+                "{\"id\":\"a\"} {\"id\":\"b\"}".getBytes(StandardCharsets.UTF_8))).readObjectSequence(new ArrayList<>()));
+    }
+
+    private static List<Makale> readArray(String json) throws IOException {
+        List<Makale> list = new ArrayList<>();
+        new JsonTokenizer(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8))).readArray(list);
+        return list;
+    }
+
+    /** Tokenizer'dan önceki regex tarayıcı (karşılaştırma için; kaçış dizisi içermeyen girdide doğru). */
+    private static final class LegacyScanner {
+        private static final Pattern OBJECT = Pattern.compile("\\{[\\s\\S]*?\\}(?=\\s*,|\\s*\\])", Pattern.MULTILINE);
+        private static final Pattern ITEM = Pattern.compile("\"(.*?)\"");
+
+        static List<Makale> parse(String content) {
+            List<Makale> out = new ArrayList<>();
+            Matcher om = OBJECT.matcher(content);
+            while (om.find()) {
+                String json = om.group();
+                if (!json.contains("\"id\"")) continue;
+                Makale m = new Makale();
+                m.setId(string(json, "id"));
+                m.setTitle(string(json, "title"));
+                m.setDoi(string(json, "doi"));
+                Matcher ym = Pattern.compile("\"year\"\\s*:\\s*(\\d+)").matcher(json);
+                m.setYear(ym.find() ? Integer.parseInt(ym.group(1)) : 0);
+                m.setAuthors(list(json, "authors"));
+                m.setReferencedWorkIds(list(json, "referenced_works"));
+                out.add(m);
+            }
+            return out;
+        }
+
+        private static String string(String json, String key) {
+            Matcher m = Pattern.compile("\"" + key + "\"\\s*:\\s*\"(.*?)\"").matcher(json);
+            return m.find() ? m.group(1) : "";
+        }
+
+        private static List<String> list(String json, String key) {
+            List<String> list = new ArrayList<>();
+            Matcher lm = Pattern.compile("\"" + key + "\"\\s*:\\s*\\[(.*?)\\]", Pattern.DOTALL).matcher(json);
+            if (lm.find()) {
+                Matcher im = ITEM.matcher(lm.group(1));
+                while (im.find()) list.add(im.group(1));
+            }
+            return list;
+        }
+    }
+}
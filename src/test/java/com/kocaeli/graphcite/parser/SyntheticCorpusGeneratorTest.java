@@ -0,0 +1,87 @@
+package com.kocaeli.graphcite.parser;
+
+import com.kocaeli.graphcite.model.Makale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticCorpusGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void sameSeedAndCountGiveIdenticalBytes() throws IOException {
+        Path a = dir.resolve("a.json");
+        Path b = dir.resolve("b.json");
+        new SyntheticCorpusGenerator(3_000, 42L).write(a, null);
+        new SyntheticCorpusGenerator(3_000, 42L).write(b, null);
+        assertArrayEquals(Files.readAllBytes(a), Files.readAllBytes(b));
+    }
+
+    @Test
+    void differentSeedGivesDifferentCorpus() throws IOException {
+        assertNotEquals(generate(1_000, 1L), generate(1_000, 2L));
+    }
+
+    @Test
+    void referencesPointToEarlierYearsAndIdsAreUnique() throws IOException {
+        Path file = dir.resolve("corpus.json");
+        new SyntheticCorpusGenerator(5_000, 7L).write(file, null);
+
+        List<Makale> makaleler = JsonParser.parse(file.toString());
+        assertEquals(5_000, makaleler.size());
+
+        Map<String, Integer> years = new HashMap<>();
+        for (Makale m : makaleler) {
+            assertNull(years.put(m.getId(), m.getYear()), "tekrarlanan id: " + m.getId());
+        }
+
+        long references = 0;
+        for (Makale m : makaleler) {
+            for (String ref : m.getReferencedWorkIds()) {
+                Integer year = years.get(ref);
+                assertNotNull(year, "korpus dışı referans: " + ref);
+                assertTrue(year < m.getYear(), m.getId() + " (" + m.getYear() + ") -> " + ref + " (" + year + ")");
+                references++;
+            }
+            assertEquals(m.getReferencedWorkIds().size(), m.getReferencedWorkIds().stream().distinct().count(),
+                    "tekrarlanan referans: " + m.getId());
+        }
+        assertTrue(references > 0);
+    }
+
+    @Test
+    void progressIsReportedOnceAtTheEnd() throws IOException {
+        long[] last = {-1};
+        int[] calls = {0};
+        new SyntheticCorpusGenerator(250, 3L).write(new StringWriter(), n -> {
+            last[0] = n;
+            calls[0]++;
+        });
+        assertEquals(1, calls[0]);
+        assertEquals(250, last[0]);
+    }
+
+    @Test
+    void emptyCorpusIsAnEmptyArray() throws IOException {
+        Path file = dir.resolve("empty.json");
+        new SyntheticCorpusGenerator(0, 1L).write(file, null);
+        assertTrue(JsonParser.parse(file.toString()).isEmpty());
+    }
+
+    private static String generate(int count, long seed) throws IOException {
+        StringWriter w = new StringWriter();
+        new SyntheticCorpusGenerator(count, seed).write(w, null);
+        return w.toString();
+    }
+}